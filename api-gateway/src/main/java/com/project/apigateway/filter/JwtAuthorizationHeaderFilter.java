@@ -1,5 +1,6 @@
 package com.project.apigateway.filter;
 
+import com.project.apigateway.filter.JwtClaimsCache.VerifiedClaims;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtParser;
@@ -12,7 +13,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -24,6 +25,7 @@ import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 
 @Slf4j
@@ -33,20 +35,38 @@ public class JwtAuthorizationHeaderFilter extends AbstractGatewayFilterFactory<J
     private String secretKey;
     public static final String AUTHORIZATION_KEY = "auth";
     private Key key;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private JwtParser jwtParser;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final RevokedTokenCache revokedTokenCache;
+
+    // 블랙리스트 조회 제한 시간
+    @Value("${jwt.blacklist.timeout-ms:200}")
+    private long blacklistTimeoutMillis;
+
+    // 블랙리스트 조회 실패(Redis 장애, 시간 초과) 시 요청 허용 여부 (false: 요청 거절)
+    @Value("${jwt.blacklist.fail-open:false}")
+    private boolean blacklistFailOpen;
 
     public static class Config {
     }
 
-    public JwtAuthorizationHeaderFilter(RedisTemplate<String, Object> redisTemplate) {
+    public JwtAuthorizationHeaderFilter(ReactiveStringRedisTemplate reactiveRedisTemplate,
+                                        JwtClaimsCache jwtClaimsCache,
+                                        RevokedTokenCache revokedTokenCache) {
         super(Config.class);
-        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.revokedTokenCache = revokedTokenCache;
     }
 
     @PostConstruct
     public void init() {
         byte[] secretKeyBytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(secretKeyBytes);
+        jwtParser = Jwts.parserBuilder()    // thread-safe -> 요청마다 생성하지 않고 재사용
+                .setSigningKey(key)
+                .build();
     }
 
     @Override
@@ -59,32 +79,33 @@ public class JwtAuthorizationHeaderFilter extends AbstractGatewayFilterFactory<J
             }
 
             String authorizationHeader = request.getHeaders().get(HttpHeaders.AUTHORIZATION).get(0);
-            String jwt = authorizationHeader.replace("Bearer", "");
+            String jwt = authorizationHeader.replace("Bearer", "").trim();
 
-            if (!isJwtValid(jwt) || isTokenInBlacklist(jwt)) {
+            VerifiedClaims claims = verifyJwt(jwt);
+            if (claims == null) {
                 return onError(exchange, "유효하지 않은 JWT 토큰입니다.", HttpStatus.UNAUTHORIZED);
             }
 
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(jwt)
-                    .getBody();
-
-            String memberId = claims.get("memberId", String.class);
-            String role = claims.get(AUTHORIZATION_KEY, String.class);
-            log.info(">>>>>>>>>>>> role: {}", role);
+            String memberId = claims.memberId();
+            String role = claims.role();
             if (memberId == null || memberId.isEmpty()) {
                 return onError(exchange, "Token에서 회원 정보를 찾을 수 없습니다.", HttpStatus.UNAUTHORIZED);
             }
 
-            // 요청 헤더에 memberId 추가
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-Member-Id", memberId)
-                    .header(AUTHORIZATION_KEY, role)
-                    .build();
+            // 블랙리스트 조회는 event-loop를 블로킹하지 않도록 Mono 체인으로 처리
+            return isTokenInBlacklist(jwt).flatMap(inBlacklist -> {
+                if (inBlacklist) {
+                    return onError(exchange, "유효하지 않은 JWT 토큰입니다.", HttpStatus.UNAUTHORIZED);
+                }
 
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+                // 요청 헤더에 memberId 추가
+                ServerHttpRequest modifiedRequest = request.mutate()
+                        .header("X-Member-Id", memberId)
+                        .header(AUTHORIZATION_KEY, role)
+                        .build();
+
+                return chain.filter(exchange.mutate().request(modifiedRequest).build());
+            });
         };
     }
 
@@ -98,50 +119,73 @@ public class JwtAuthorizationHeaderFilter extends AbstractGatewayFilterFactory<J
         return response.writeWith(Flux.just(buffer));
     }
 
-    private boolean isJwtValid(String jwt) {
-        boolean returnValue = true;
-        String subject = null;  //username(email)
+    /**
+     * Access Token 검증 및 정보 조회
+     *
+     * 캐시에 검증된 토큰 정보가 있으면 서명 검증을 생략하고,
+     * 없으면 한 번만 파싱(서명 검증 포함)한 뒤 결과를 캐싱한다.
+     *
+     * @param jwt Access Token
+     * @return 토큰이 유효하면 검증된 토큰 정보, 유효하지 않으면 null
+     */
+    private VerifiedClaims verifyJwt(String jwt) {
+        VerifiedClaims cached = jwtClaimsCache.get(jwt);
+        if (cached != null) {
+            return cached;
+        }
 
+        Claims claims;
         try {
-            JwtParser jwtParser = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build();
-
-            subject = jwtParser.parseClaimsJws(jwt).getBody().getSubject();
+            claims = jwtParser.parseClaimsJws(jwt).getBody();
         } catch (SignatureException ex) {
             log.error("유효하지 않은 JWT 서명입니다: {}", ex.getMessage());
-            returnValue = false;
+            return null;
         } catch (ExpiredJwtException ex) {
             log.error("JWT 토큰이 만료되었습니다: {}", ex.getMessage());
-            returnValue = false;
+            return null;
         } catch (Exception ex) {
             log.error("JWT 토큰 파싱 중 에러가 발생했습니다: {}", ex.getMessage());
-            returnValue = false;
+            return null;
         }
 
-        if (subject == null || subject.isEmpty()) {
-            returnValue = false;
+        String subject = claims.getSubject();  //username(email)
+        if (subject == null || subject.isEmpty() || claims.getExpiration() == null) {
+            return null;
         }
 
-        return returnValue;
+        VerifiedClaims verifiedClaims = new VerifiedClaims(
+                claims.get("memberId", String.class),
+                claims.get(AUTHORIZATION_KEY, String.class),
+                claims.getExpiration().getTime()
+        );
+        jwtClaimsCache.put(jwt, verifiedClaims);
+        return verifiedClaims;
     }
 
     /**
      * Access Token이 logout 블랙리스트에 있는지 확인하기
      *
+     * 메모리의 로그아웃 토큰 목록에 없는 토큰은 Redis를 조회하지 않는다.
+     * Redis 조회가 실패하거나 jwt.blacklist.timeout-ms 안에 끝나지 않으면
+     * jwt.blacklist.fail-open 설정에 따라 요청을 허용(fail-open)하거나 거절(fail-closed)한다.
+     *
      * @param accessToken 블랙리스트에서 확인할 Access Token
      * @return 블랙리스트에 존재하면 true, 없으면 false
      */
-    private boolean isTokenInBlacklist(String accessToken) {
-        // Redis에서 해당 accessToken에 저장된 값을 조회
-        Object value = redisTemplate.opsForValue().get(accessToken);
-
-        if(value != null) {
-            // 저장된 값이 "logout"이 맞는지 확인
-            return "logout".equals(value.toString());
+    private Mono<Boolean> isTokenInBlacklist(String accessToken) {
+        if (!revokedTokenCache.mightBeRevoked(accessToken)) {
+            return Mono.just(false);
         }
 
-        return false;
+        // Redis에서 해당 accessToken에 저장된 값을 조회 -> 저장된 값이 "logout"이 맞는지 확인
+        return reactiveRedisTemplate.opsForValue().get(accessToken)
+                .map("logout"::equals)
+                .defaultIfEmpty(false)
+                .timeout(Duration.ofMillis(blacklistTimeoutMillis))
+                .onErrorResume(ex -> {
+                    log.error("JWT 블랙리스트 조회 중 에러가 발생했습니다 (fail-open: {}): {}", blacklistFailOpen, ex.getMessage());
+                    return Mono.just(!blacklistFailOpen);
+                });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.project.apigateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 JWT Claims 캐시 (애플리케이션 메모리)
+ *
+ * 같은 토큰으로 반복되는 요청은 서명 검증과 Claims 파싱을 생략한다.
+ * 토큰 원문 대신 SHA-256 해시를 key로 보관하며, 토큰 만료 시간(exp)과 ttl-ms 중 이른 시점에 만료된다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Map<String, VerifiedClaims> cache = new ConcurrentHashMap<>();
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.claims-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    /**
+     * 검증된 토큰 정보
+     *
+     * @param memberId 회원 ID
+     * @param role 회원 권한
+     * @param expiresAt 토큰 만료 시간 (epoch millis)
+     */
+    public record VerifiedClaims(String memberId, String role, long expiresAt) {
+    }
+
+    private record CachedClaims(VerifiedClaims claims, long expiresAt) {
+    }
+
+    /**
+     * 검증된 토큰 정보 조회
+     *
+     * @param jwt Access Token
+     * @return 캐시에 있고 만료되지 않았으면 검증된 토큰 정보, 그렇지 않으면 null
+     */
+    public VerifiedClaims get(String jwt) {
+        String tokenHash = hash(jwt);
+        CachedClaims cached = cache.get(tokenHash);
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            cache.remove(tokenHash);
+            return null;
+        }
+        return cached.claims();
+    }
+
+    /* 검증된 토큰 정보 저장 */
+    public void put(String jwt, VerifiedClaims claims) {
+        long expiresAt = Math.min(claims.expiresAt(), System.currentTimeMillis() + ttlMillis);
+        evictIfFull();
+        cache.put(hash(jwt), new CachedClaims(claims, expiresAt));
+    }
+
+    /* 최대 크기 초과 시 임의의 항목 제거 */
+    private void evictIfFull() {
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String hash(String jwt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
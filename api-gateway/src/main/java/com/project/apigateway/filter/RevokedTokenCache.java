@@ -0,0 +1,105 @@
+package com.project.apigateway.filter;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 Access Token 목록 (애플리케이션 메모리)
+ *
+ * 회원 서비스가 로그아웃 시 발행하는 토큰 해시(Redis Pub/Sub: token-revocation 채널)를 만료 시간과 함께 보관한다.
+ * 블랙리스트 확인 시 이 목록에 없는 토큰은 Redis를 조회하지 않는다.
+ * Pub/Sub 메시지가 유실되는 경우를 대비해 일정 주기(resync-interval-ms)마다 Redis Sorted Set(revoked_tokens) 전체를 다시 읽으며,
+ * 만료 시간이 지난 토큰은 목록에서 제거한다. 주기적인 동기화는 event-loop가 아닌 스케줄러 스레드에서 실행된다.
+ *
+ * 메시지 형식: {tokenHash}:{expiresAt}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenCache implements MessageListener {
+
+    private static final String REVOCATION_CHANNEL = "token-revocation";
+    private static final String REVOKED_TOKENS_KEY = "revoked_tokens";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 토큰 해시별 만료 시간 (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        resync();
+    }
+
+    /**
+     * 로그아웃된 토큰일 가능성이 있는지 확인
+     *
+     * @param jwt 확인할 Access Token ("Bearer" 접두사 제외)
+     * @return 로그아웃 목록에 있으면 true (Redis 블랙리스트로 최종 확인 필요)
+     */
+    public boolean mightBeRevoked(String jwt) {
+        Long expiresAt = revokedTokens.get(hash(jwt));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /* 로그아웃 목록 전체 동기화 및 만료된 토큰 제거 */
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval-ms:30000}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_TOKENS_KEY, now, Double.MAX_VALUE);
+
+            Map<String, Long> latest = new HashMap<>();
+            if (tuples != null) {
+                tuples.forEach(tuple -> latest.put(tuple.getValue(), tuple.getScore().longValue()));
+            }
+            revokedTokens.putAll(latest);
+        } catch (Exception e) {
+            log.error("로그아웃 토큰 목록 동기화 중 오류 발생: {}", e.getMessage());
+        }
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    /* 로그아웃 메시지 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            revokedTokens.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.error("잘못된 로그아웃 메시지입니다: {}", body);
+        }
+    }
+
+    /* 토큰의 SHA-256 해시 (회원 서비스와 같은 방식) */
+    private String hash(String jwt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwt.trim().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
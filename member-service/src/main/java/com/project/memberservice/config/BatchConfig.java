@@ -1,6 +1,5 @@
 package com.project.memberservice.config;
 
-import com.project.memberservice.entity.Member;
 import com.project.memberservice.entity.UserStatusEnum;
 import com.project.memberservice.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,18 +10,26 @@ import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -31,8 +38,15 @@ public class BatchConfig {
 
     private final String JOB_NAME = "updateMemberStatusJob";
     private final String STEP_NAME = "updateMemberStatusStep";
+    private final String WORKER_STEP_NAME = "updateMemberStatusWorkerStep";
     private final MemberRepository memberRepository;
 
+    @Value("${member.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${member.batch.grid-size:4}")
+    private int gridSize;
+
     /**
      * 휴면 회원 업데이트 Job 등록
      */
@@ -45,57 +59,125 @@ public class BatchConfig {
     }
 
     /**
-     * 휴면 회원 업데이트 Step 등록 (Chunk 기반)
+     * 휴면 회원 업데이트 Master Step (회원 ID 범위별 Partition)
      */
     @Bean
     @JobScope
     public Step updateMemberStatusStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new StepBuilder(STEP_NAME, jobRepository)
-                .<Member, Member>chunk(50, transactionManager) // chunk size
-                .reader(memberItemReader())
-                .processor(memberItemProcessor())
-                .writer(memberItemWriter())
-                .transactionManager(transactionManager)
+                .partitioner(WORKER_STEP_NAME, memberIdRangePartitioner())
+                .partitionHandler(memberStatusPartitionHandler(jobRepository, transactionManager))
                 .build();
     }
 
     /**
-     * ItemReader: 업데이트할 회원을 조회한다.
+     * PartitionHandler: 회원 ID 범위별 Worker Step을 grid-size개의 thread에서 병렬로 실행한다.
      */
     @Bean
-    @StepScope
-    public RepositoryItemReader<Member> memberItemReader() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusYears(1);
-        return new RepositoryItemReaderBuilder<Member>()
-                .name("memberItemReader")
-                .repository(memberRepository)
-                .methodName("findAllByStatusAndLastLoginTimeBefore")
-                .arguments(UserStatusEnum.ACTIVE, cutoffDate)
-                .pageSize(50)  // page size
-                .sorts(Collections.singletonMap("memberId", org.springframework.data.domain.Sort.Direction.ASC)) // 정렬 기준
+    public TaskExecutorPartitionHandler memberStatusPartitionHandler(JobRepository jobRepository,
+                                                                     PlatformTransactionManager transactionManager) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("member-status-batch-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(updateMemberStatusWorkerStep(jobRepository, transactionManager));
+        partitionHandler.setTaskExecutor(taskExecutor);
+        partitionHandler.setGridSize(gridSize);
+        return partitionHandler;
+    }
+
+    /**
+     * 휴면 회원 업데이트 Worker Step (Chunk 기반)
+     */
+    @Bean
+    public Step updateMemberStatusWorkerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(memberItemReader(null, null, null))
+                .writer(memberItemWriter(null))
                 .build();
     }
 
     /**
-     * ItemProcessor: 회원 상태를 업데이트한다.
+     * Partitioner: 전체 회원 ID 범위(MIN ~ MAX)를 gridSize개의 구간으로 나눈다.
+     *
+     * 모든 partition이 같은 기준 시점(1년 전)을 사용하도록 기준 시점을 함께 전달한다.
+     */
+    @Bean
+    public Partitioner memberIdRangePartitioner() {
+        return gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            Long minId = memberRepository.findMinMemberId();
+            Long maxId = memberRepository.findMaxMemberId();
+            if (minId == null) {
+                return partitions;  // 회원이 없는 경우
+            }
+
+            String cutoffDate = LocalDateTime.now().minusYears(1).toString();
+            long rangeSize = (maxId - minId) / gridSize + 1;
+            for (int i = 0; i < gridSize; i++) {
+                long start = minId + rangeSize * i;
+                if (start > maxId) {
+                    break;
+                }
+
+                ExecutionContext context = new ExecutionContext();
+                context.putLong("minId", start);
+                context.putLong("maxId", Math.min(start + rangeSize - 1, maxId));
+                context.putString("cutoffDate", cutoffDate);
+                partitions.put("partition" + i, context);
+            }
+            return partitions;
+        };
+    }
+
+    /**
+     * ItemReader: 구간 안에서 휴면 전환 대상 회원의 ID를 keyset 방식으로 chunk-size건씩 조회한다.
+     *
+     * OFFSET 대신 마지막으로 읽은 회원 ID 이후부터 조회하므로,
+     * 앞 페이지의 회원 상태가 바뀌어도 건너뛰는 회원이 없고 페이지가 뒤로 가도 조회 비용이 일정하다.
      */
     @Bean
     @StepScope
-    public ItemProcessor<Member, Member> memberItemProcessor() {
-        return member -> {
-            member.setStatus(UserStatusEnum.DORMANT);
-            return member;
+    public ItemReader<Long> memberItemReader(@Value("#{stepExecutionContext['minId']}") Long minId,
+                                             @Value("#{stepExecutionContext['maxId']}") Long maxId,
+                                             @Value("#{stepExecutionContext['cutoffDate']}") String cutoffDate) {
+        LocalDateTime cutoff = LocalDateTime.parse(cutoffDate);
+
+        return new ItemReader<>() {
+            private long lastMemberId = minId - 1;
+            private Iterator<Long> page = Collections.emptyIterator();
+
+            @Override
+            public Long read() {
+                if (!page.hasNext()) {
+                    List<Long> memberIds = memberRepository.findDormantTargetIds(
+                            UserStatusEnum.ACTIVE, cutoff, lastMemberId, maxId, PageRequest.of(0, chunkSize));
+                    if (memberIds.isEmpty()) {
+                        return null; // 더 이상 읽을 데이터가 없을 경우 종료
+                    }
+                    lastMemberId = memberIds.get(memberIds.size() - 1);
+                    page = memberIds.iterator();
+                }
+                return page.next();
+            }
         };
     }
 
     /**
-     * ItemWriter: 업데이트된 회원을 저장한다.
+     * ItemWriter: chunk에 포함된 회원을 한 번의 UPDATE로 휴면 상태로 변경한다.
+     *
+     * 조회 이후 로그인한 회원은 변경하지 않도록 상태와 마지막 로그인 시각을 다시 확인한다.
      */
     @Bean
     @StepScope
-    public ItemWriter<Member> memberItemWriter() {
-        return members -> {
-            memberRepository.saveAll(members);
+    public ItemWriter<Long> memberItemWriter(@Value("#{stepExecutionContext['cutoffDate']}") String cutoffDate) {
+        LocalDateTime cutoff = LocalDateTime.parse(cutoffDate);
+
+        return chunk -> {
+            int updated = memberRepository.updateStatusByMemberIds(
+                    chunk.getItems(), UserStatusEnum.ACTIVE, UserStatusEnum.DORMANT, cutoff, LocalDateTime.now());
+            log.info(">>> 휴면 회원 전환: {}건", updated);
         };
     }
-}
\ No newline at end of file
+}
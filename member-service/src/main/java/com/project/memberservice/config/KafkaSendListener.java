@@ -0,0 +1,41 @@
+package com.project.memberservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.ProducerListener;
+
+/**
+ * KafkaTemplate 전송 결과 Callback
+ *
+ * KafkaTemplate에 등록되어 모든 send()의 결과를 비동기로 전달받는다.
+ * topic별 성공/실패 건수를 kafka.producer.send 지표(result 태그)로 기록하고, 실패한 이벤트는 로그로 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class KafkaSendListener<K, V> implements ProducerListener<K, V> {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onSuccess(ProducerRecord<K, V> producerRecord, RecordMetadata recordMetadata) {
+        counter(producerRecord.topic(), "success").increment();
+    }
+
+    @Override
+    public void onError(ProducerRecord<K, V> producerRecord, RecordMetadata recordMetadata, Exception exception) {
+        counter(producerRecord.topic(), "failure").increment();
+        log.error("[KAFKA] 이벤트 전송 실패 - topic: {}, key: {}, {}",
+                producerRecord.topic(), producerRecord.key(), exception.getMessage());
+    }
+
+    private Counter counter(String topic, String result) {
+        return Counter.builder("kafka.producer.send")
+                .tag("topic", topic)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
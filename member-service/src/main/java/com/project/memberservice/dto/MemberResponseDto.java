@@ -2,11 +2,13 @@ package com.project.memberservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.project.memberservice.entity.Member;
+import com.project.memberservice.entity.OrderStatusEnum;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -20,7 +22,8 @@ public class MemberResponseDto {
     private String phone;
     private LocalDateTime createdAt;
 
-    private List<OrderResponseDto> orders;
+    private List<OrderResponseDto> orders;              //최근 주문
+    private Map<OrderStatusEnum, Long> orderStatusCounts;   //주문 상태별 주문 수
 
     public MemberResponseDto(Member member){
         this.memberId = member.getMemberId();
@@ -0,0 +1,14 @@
+package com.project.memberservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class OrderHistoryResponseDto {
+    private List<OrderResponseDto> orders;
+    private String nextCursor;    //마지막 페이지이면 null
+    private boolean hasNext;
+}
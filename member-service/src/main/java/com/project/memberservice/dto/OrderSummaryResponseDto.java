@@ -0,0 +1,15 @@
+package com.project.memberservice.dto;
+
+import com.project.memberservice.entity.OrderStatusEnum;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+public class OrderSummaryResponseDto {
+    private Map<OrderStatusEnum, Long> statusCounts;
+    private List<OrderResponseDto> recentOrders;
+}
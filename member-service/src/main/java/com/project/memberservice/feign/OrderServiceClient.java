@@ -1,10 +1,13 @@
 package com.project.memberservice.feign;
 
+import com.project.memberservice.dto.OrderHistoryResponseDto;
 import com.project.memberservice.dto.OrderResponseDto;
+import com.project.memberservice.dto.OrderSummaryResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -15,6 +18,16 @@ public interface OrderServiceClient {
     @GetMapping("/orders")
     public ResponseEntity<List<OrderResponseDto>> getOrdersByMemberId(@RequestHeader("X-Member-Id") String id);
 
+    /* 사용자별 주문 요약 조회 (상태별 주문 수 & 최근 주문) */
+    @GetMapping("/orders/summary")
+    public ResponseEntity<OrderSummaryResponseDto> getOrderSummary(@RequestHeader("X-Member-Id") String id);
+
+    /* 사용자별 주문 내역 페이지 조회 (최신순, cursor: 이전 페이지의 nextCursor) */
+    @GetMapping("/orders/history")
+    public ResponseEntity<OrderHistoryResponseDto> getOrderHistory(@RequestHeader("X-Member-Id") String id,
+                                                                   @RequestParam(value = "cursor", required = false) String cursor,
+                                                                   @RequestParam("size") int size);
+
     @GetMapping("/errorful/case1")
     public ResponseEntity<String> getCase1Response();
 
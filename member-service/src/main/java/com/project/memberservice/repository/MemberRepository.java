@@ -5,8 +5,11 @@ import com.project.memberservice.entity.UserStatusEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -25,6 +28,55 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     Page<Member> findAllByStatusAndLastLoginTimeBefore(UserStatusEnum status, LocalDateTime cutoffDate, Pageable pageable);
 
+    /**
+     * 특정 상태의 회원 중에서 주어진 날짜보다 이전에 로그인한 회원의 ID를 회원 ID 순으로 조회한다.
+     * (lastMemberId, maxMemberId] 구간의 회원만 조회하므로 keyset 방식으로 나누어 읽을 수 있다.
+     *
+     * @param status 조회할 회원의 status
+     * @param cutoffDate 기준 시점(이 날짜 이전에 로그인한 경우)
+     * @param lastMemberId 이전에 마지막으로 조회한 회원 ID
+     * @param maxMemberId 조회할 구간의 마지막 회원 ID
+     * @param pageable 조회할 회원 수
+     * @return 해당 조건에 맞는 회원 ID 목록
+     */
+    @Query("SELECT m.memberId FROM Member m WHERE m.status = :status AND m.lastLoginTime < :cutoffDate " +
+            "AND m.memberId > :lastMemberId AND m.memberId <= :maxMemberId ORDER BY m.memberId")
+    List<Long> findDormantTargetIds(UserStatusEnum status, LocalDateTime cutoffDate, Long lastMemberId,
+                                    Long maxMemberId, Pageable pageable);
+
+    /**
+     * 여러 회원 중 현재 상태가 currentStatus이고 주어진 날짜보다 이전에 로그인한 회원의 상태를 한 번의 UPDATE로 변경한다.
+     * (벌크 UPDATE는 Auditing이 적용되지 않으므로 수정 시각을 함께 전달한다.)
+     *
+     * @param memberIds 상태를 변경할 회원의 ID 목록
+     * @param currentStatus 변경 전 회원 상태
+     * @param status 변경할 회원 상태
+     * @param cutoffDate 기준 시점(이 날짜 이전에 로그인한 경우)
+     * @param modifiedAt 수정 시각
+     * @return 변경된 회원 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.status = :status, m.modifiedAt = :modifiedAt " +
+            "WHERE m.memberId IN :memberIds AND m.status = :currentStatus AND m.lastLoginTime < :cutoffDate")
+    int updateStatusByMemberIds(List<? extends Long> memberIds, UserStatusEnum currentStatus, UserStatusEnum status,
+                                LocalDateTime cutoffDate, LocalDateTime modifiedAt);
+
+    /**
+     * 가장 작은 회원 ID를 조회한다. (휴면 회원 전환 Batch에서 회원 ID 범위를 partition으로 나눌 때 사용)
+     *
+     * @return 가장 작은 회원 ID, 회원이 없으면 null
+     */
+    @Query("SELECT MIN(m.memberId) FROM Member m")
+    Long findMinMemberId();
+
+    /**
+     * 가장 큰 회원 ID를 조회한다. (휴면 회원 전환 Batch에서 회원 ID 범위를 partition으로 나눌 때 사용)
+     *
+     * @return 가장 큰 회원 ID, 회원이 없으면 null
+     */
+    @Query("SELECT MAX(m.memberId) FROM Member m")
+    Long findMaxMemberId();
+
     /**
      * [페이징 처리] 전체 회원 목록 조회
      *
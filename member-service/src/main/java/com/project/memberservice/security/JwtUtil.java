@@ -33,6 +33,7 @@ public class JwtUtil {
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RevokedTokenCache revokedTokenCache;
 
     @PostConstruct
     public void init() {
@@ -109,10 +110,16 @@ public class JwtUtil {
     /**
      * Access Token이 logout 블랙리스트에 있는지 확인하기
      *
+     * 메모리의 로그아웃 토큰 목록에 없는 토큰은 Redis를 조회하지 않는다.
+     *
      * @param accessToken 블랙리스트에서 확인할 Access Token
      * @return 블랙리스트에 존재하면 true, 없으면 false
      */
     public boolean isTokenInBlacklist(String accessToken) {
+        if (!revokedTokenCache.mightBeRevoked(accessToken)) {
+            return false;
+        }
+
         // Redis에서 해당 accessToken에 저장된 값을 조회
         Object value = redisTemplate.opsForValue().get(accessToken);
 
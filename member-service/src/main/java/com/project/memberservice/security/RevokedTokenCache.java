@@ -0,0 +1,123 @@
+package com.project.memberservice.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 Access Token 목록 (애플리케이션 메모리)
+ *
+ * 로그아웃 시 토큰의 SHA-256 해시와 만료 시간을 Redis Sorted Set(revoked_tokens)에 기록하고,
+ * Redis Pub/Sub(token-revocation 채널)으로 모든 인스턴스(회원 서비스, API Gateway)에 알린다.
+ * 블랙리스트 확인 시 이 목록에 없는 토큰은 Redis를 조회하지 않는다.
+ * Pub/Sub 메시지가 유실되는 경우를 대비해 일정 주기(resync-interval-ms)마다 Sorted Set 전체를 다시 읽으며,
+ * 만료 시간이 지난 토큰은 목록에서 제거한다.
+ *
+ * 메시지 형식: {tokenHash}:{expiresAt}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenCache implements MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "token-revocation";
+    public static final String REVOKED_TOKENS_KEY = "revoked_tokens";
+    private static final String BEARER = "Bearer";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 토큰 해시별 만료 시간 (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        resync();
+    }
+
+    /**
+     * 로그아웃된 토큰 등록 및 다른 인스턴스에 전파
+     *
+     * @param accessToken 로그아웃된 Access Token
+     * @param expiresAt 해당 토큰의 만료 시간 (epoch millis)
+     */
+    public void revoke(String accessToken, long expiresAt) {
+        String tokenHash = hash(accessToken);
+        revokedTokens.put(tokenHash, expiresAt);
+
+        stringRedisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, tokenHash, expiresAt);
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, 0, System.currentTimeMillis());
+        stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenHash + ":" + expiresAt);
+    }
+
+    /**
+     * 로그아웃된 토큰일 가능성이 있는지 확인
+     *
+     * @param accessToken 확인할 Access Token
+     * @return 로그아웃 목록에 있으면 true (Redis 블랙리스트로 최종 확인 필요)
+     */
+    public boolean mightBeRevoked(String accessToken) {
+        Long expiresAt = revokedTokens.get(hash(accessToken));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /* 로그아웃 목록 전체 동기화 및 만료된 토큰 제거 */
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval-ms:30000}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_TOKENS_KEY, now, Double.MAX_VALUE);
+
+            Map<String, Long> latest = new HashMap<>();
+            if (tuples != null) {
+                tuples.forEach(tuple -> latest.put(tuple.getValue(), tuple.getScore().longValue()));
+            }
+            revokedTokens.putAll(latest);
+        } catch (Exception e) {
+            log.error("로그아웃 토큰 목록 동기화 중 오류 발생: {}", e.getMessage());
+        }
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    /* 로그아웃 메시지 수신 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            revokedTokens.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.error("잘못된 로그아웃 메시지입니다: {}", body);
+        }
+    }
+
+    /* "Bearer" 접두사를 제외한 토큰의 SHA-256 해시 */
+    private String hash(String accessToken) {
+        String token = accessToken.replace(BEARER, "").trim();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.project.memberservice.exception.ErrorCode;
 import com.project.memberservice.repository.MemberRepository;
 import com.project.memberservice.repository.RefreshTokenRepository;
 import com.project.memberservice.security.JwtUtil;
+import com.project.memberservice.security.RevokedTokenCache;
 import com.project.memberservice.util.RedisUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -39,12 +40,13 @@ public class AuthService {
     private final RedisUtil redisUtil;
     private final MemberRepository memberRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RevokedTokenCache revokedTokenCache;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     /**
      * 로그아웃
-     * 1. Access Token 블랙리스트 처리
+     * 1. Access Token 블랙리스트 처리 (다른 인스턴스의 로그아웃 토큰 목록에도 전파)
      * 2. Redis에서 리프레시 토큰 삭제
      *
      * @param accessToken 블랙리스트 처리할 Access Token
@@ -54,7 +56,8 @@ public class AuthService {
         try {
             // 1. Access Token 블랙리스트 처리
             long expiration = getExpiration(accessToken);
-            redisTemplate.opsForValue().set(accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForValue().set(accessToken.replace("Bearer", "").trim(), "logout", expiration, TimeUnit.MILLISECONDS);
+            revokedTokenCache.revoke(accessToken, System.currentTimeMillis() + expiration);
 
             // 2. Redis에서 리프레시 토큰 삭제
             Optional<RefreshToken> storedRefreshToken = refreshTokenRepository.findByRefreshToken(refreshToken);
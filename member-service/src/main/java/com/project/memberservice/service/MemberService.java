@@ -2,7 +2,7 @@ package com.project.memberservice.service;
 
 import com.project.memberservice.dto.MemberRequestDto;
 import com.project.memberservice.dto.MemberResponseDto;
-import com.project.memberservice.dto.OrderResponseDto;
+import com.project.memberservice.dto.OrderSummaryResponseDto;
 import com.project.memberservice.dto.PasswordChangeRequestDto;
 import com.project.memberservice.entity.Member;
 import com.project.memberservice.entity.UserRoleEnum;
@@ -98,6 +98,8 @@ public class MemberService {
     /**
      * 회원 정보 & 주문 내역 조회
      *
+     * 주문 내역은 주문 서비스의 주문 요약 캐시에서 최근 주문과 상태별 주문 수만 조회한다.
+     *
      * @param id memberId
      * @return MemberDto 해당 회원의 정보 + 주문 내역 목록
      */
@@ -110,14 +112,19 @@ public class MemberService {
 
         //주문 내역 조회
         CircuitBreaker circuitBreaker = circuitBreakerFactory.create("circuitBreaker");
-        List<OrderResponseDto> orders = circuitBreaker.run(() -> {
-            ResponseEntity<List<OrderResponseDto>> responseEntity = orderServiceClient.getOrdersByMemberId(id);
+        OrderSummaryResponseDto orderSummary = circuitBreaker.run(() -> {
+            ResponseEntity<OrderSummaryResponseDto> responseEntity = orderServiceClient.getOrderSummary(id);
             return responseEntity.getBody();
         }, throwable -> {
-            return new ArrayList<>();
+            return null;
         });
 
-        memberResponseDto.setOrders(orders);
+        if (orderSummary != null) {
+            memberResponseDto.setOrders(orderSummary.getRecentOrders());
+            memberResponseDto.setOrderStatusCounts(orderSummary.getStatusCounts());
+        } else {
+            memberResponseDto.setOrders(new ArrayList<>());
+        }
 
         return memberResponseDto;
     }
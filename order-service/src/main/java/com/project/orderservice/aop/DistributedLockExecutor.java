@@ -0,0 +1,138 @@
+package com.project.orderservice.aop;
+
+import com.project.orderservice.exception.CustomException;
+import com.project.orderservice.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 분산 락 획득 & 해제
+ *
+ * 여러 key의 락은 교착 상태가 생기지 않도록 정렬된 순서로 하나씩 획득하며, 모든 key가 하나의 대기 시간(waitTime)을 나누어 쓴다.
+ * 공정 락(Fair Lock)을 사용하므로 대기 중인 요청은 도착한 순서대로 락을 획득하며, 먼저 기다린 요청이 뒤에 온 요청에 밀려 대기 시간을 넘기지 않는다.
+ * 대기 시간 안에 락을 획득하지 못하면 요청 스레드를 붙잡아 두지 않고 ORDER_LOCK_TIMEOUT(재시도 가능) 예외로 바로 실패한다.
+ * 점유 시간(leaseTime)이 지나면 락은 자동으로 해제되므로, 락 안에서 호출하는 Feign 요청의 timeout은 점유 시간보다 짧아야 한다.
+ *
+ * 지표 (lock tag는 상품 ID를 제외한 key 종류이므로, 상품 수와 관계없이 지표 수가 일정하다)
+ * - order.lock.wait{lock, result} : 락 종류별 대기 시간 (result = acquired | timeout)
+ * - order.lock.contention{lock} : 바로 획득하지 못하고 대기한 횟수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLockExecutor {
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.lock.wait-time-ms:3000}")
+    private long waitTimeMs;
+
+    @Value("${order.lock.lease-time-ms:10000}")
+    private long leaseTimeMs;
+
+    /**
+     * 락을 획득한 뒤 작업 실행 (기본 대기 시간 & 점유 시간)
+     *
+     * @param keys 락 key 목록
+     * @param task 락 안에서 실행할 작업
+     */
+    public void executeWithLock(Collection<String> keys, Runnable task) {
+        executeWithLock(keys, waitTimeMs, leaseTimeMs, TimeUnit.MILLISECONDS, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 락을 획득한 뒤 작업 실행
+     *
+     * @param keys 락 key 목록
+     * @param waitTime 모든 락을 획득하기까지 기다리는 최대 시간
+     * @param leaseTime 락을 획득한 후 자동으로 해제되기까지의 시간
+     * @param timeUnit 대기 시간 & 점유 시간의 단위
+     * @param task 락 안에서 실행할 작업
+     * @return 작업 결과
+     * @throws CustomException 대기 시간 안에 락을 획득하지 못하면 ORDER_LOCK_TIMEOUT, 대기 중 인터럽트되면 ORDER_LOCK_INTERRUPTED
+     */
+    public <T> T executeWithLock(Collection<String> keys, long waitTime, long leaseTime, TimeUnit timeUnit, Supplier<T> task) {
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        long leaseMs = timeUnit.toMillis(leaseTime);
+        List<RLock> acquiredLocks = new ArrayList<>();
+
+        try {
+            for (String key : sortedKeys(keys)) {
+                RLock lock = redissonClient.getFairLock(key);
+                if (!tryLock(lock, key, deadline, leaseMs)) {
+                    throw new CustomException(ErrorCode.ORDER_LOCK_TIMEOUT);
+                }
+                acquiredLocks.add(lock);
+            }
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.ORDER_LOCK_INTERRUPTED, e);
+        } finally {
+            acquiredLocks.forEach(this::unlock);
+        }
+    }
+
+    /* 바로 획득을 시도하고, 실패하면(경합) 남은 대기 시간 동안 다시 시도 */
+    private boolean tryLock(RLock lock, String key, long deadline, long leaseMs) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        boolean locked = lock.tryLock(0, leaseMs, TimeUnit.MILLISECONDS);
+        if (!locked) {
+            meterRegistry.counter("order.lock.contention", "lock", lockName(key)).increment();
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            locked = remainingMs > 0 && lock.tryLock(remainingMs, leaseMs, TimeUnit.MILLISECONDS);
+        }
+        recordWait(key, startNanos, locked);
+        return locked;
+    }
+
+    private void unlock(RLock lock) {
+        try {
+            if (lock.isHeldByCurrentThread()) {  // 점유 시간이 지나 이미 해제된 락은 해제하지 않음
+                lock.unlock();
+            } else {
+                log.warn("Redisson Lock Lease Expired - key: {}", lock.getName());
+            }
+        } catch (IllegalMonitorStateException e) {
+            log.warn("Redisson Lock Already UnLock - key: {}", lock.getName());
+        }
+    }
+
+    private void recordWait(String key, long startNanos, boolean locked) {
+        Timer.builder("order.lock.wait")
+                .description("분산 락 대기 시간")
+                .tag("lock", lockName(key))
+                .tag("result", locked ? "acquired" : "timeout")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /* 락 key에서 상품 ID 등 마지막 구분자(:) 이후를 제외한 key 종류 (ex. order_lock_product: 1 -> order_lock_product) */
+    private String lockName(String key) {
+        int separator = key.lastIndexOf(':');
+        return separator < 0 ? key : key.substring(0, separator);
+    }
+
+    private List<String> sortedKeys(Collection<String> keys) {
+        return keys.stream()
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -1,8 +1,9 @@
 package com.project.orderservice.config;
 
-import com.project.orderservice.entity.Order;
+import com.project.orderservice.dto.OrderStatusTargetDto;
 import com.project.orderservice.entity.OrderStatusEnum;
 import com.project.orderservice.repository.OrderRepository;
+import com.project.orderservice.service.OrderSummaryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -11,17 +12,22 @@ import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,7 +36,12 @@ public class BatchConfig {
 
     private final String JOB_NAME = "updateOrderStatusJob";
     private final String STEP_NAME = "updateOrderStatusStep";
+    private final String WORKER_STEP_NAME = "updateOrderStatusWorkerStep";
     private final OrderRepository orderRepository;
+    private final OrderSummaryCache orderSummaryCache;
+
+    @Value("${order.batch.chunk-size:1000}")
+    private int chunkSize;
 
 //    /**
 //     * 주문 상태 업데이트 Job 등록
@@ -102,6 +113,9 @@ public class BatchConfig {
 
     /**
      * 주문 상태 업데이트 Job 등록
+     *
+     * 상태 전이(결제 대기 → 주문 취소, 결제 완료 → 배송 중, 배송 중 → 배송 완료, 배송 완료 → 주문 확정)별로
+     * partition을 나누어 병렬로 처리한다.
      */
     @Bean
     public Job updateOrderStatusJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
@@ -112,83 +126,139 @@ public class BatchConfig {
     }
 
     /**
-     * 주문 상태 업데이트 Step 등록 (Chunk 기반)
+     * 주문 상태 업데이트 Master Step (상태 전이별 Partition)
      */
     @Bean
     @JobScope
     public Step updateOrderStatusStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("order-status-batch-");
+        taskExecutor.setConcurrencyLimit(StatusTransition.values().length);
+
         return new StepBuilder(STEP_NAME, jobRepository)
-                .<Order, Order>chunk(10, transactionManager) // chunk size
-                .reader(orderItemReader())
-                .processor(orderItemProcessor())
-                .writer(orderItemWriter())
-                .transactionManager(transactionManager)
+                .partitioner(WORKER_STEP_NAME, orderStatusPartitioner())
+                .step(updateOrderStatusWorkerStep(jobRepository, transactionManager))
+                .gridSize(StatusTransition.values().length)
+                .taskExecutor(taskExecutor)
                 .build();
     }
 
     /**
-     * ItemReader: 업데이트할 주문을 조회한다.
+     * 주문 상태 업데이트 Worker Step (Chunk 기반)
      */
     @Bean
-    @StepScope
-    public ItemReader<Order> orderItemReader() {
-        LocalDateTime now = LocalDateTime.now();
-
-        return new ItemReader<Order>() {
-            private int index = 0;
-            private List<Order> orders;
-
-            @Override
-            public Order read() {
-                if (orders == null) {
-                    orders = orderRepository.findAllByStatusAndModifiedAtBefore(
-                            OrderStatusEnum.PAYMENT_PENDING, now.minusDays(1));
-                    orders.addAll(orderRepository.findAllByStatusAndModifiedAtBefore(
-                            OrderStatusEnum.PAYMENT_COMPLETED, now.minusDays(1)));
-                    orders.addAll(orderRepository.findAllByStatusAndModifiedAtBefore(
-                            OrderStatusEnum.SHIPPING, now.minusDays(2)));
-                    orders.addAll(orderRepository.findAllByStatusAndModifiedAtBefore(
-                            OrderStatusEnum.DELIVERED, now.minusDays(3)));
-                }
+    public Step updateOrderStatusWorkerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .<OrderStatusTargetDto, OrderStatusTargetDto>chunk(chunkSize, transactionManager)
+                .reader(orderItemReader(null, null))
+                .writer(orderItemWriter(null, null))
+                .build();
+    }
 
-                if (index < orders.size()) {
-                    return orders.get(index++);
-                } else {
-                    return null; // 더 이상 읽을 데이터가 없을 경우 종료
-                }
+    /**
+     * Partitioner: 상태 전이별로 partition을 생성한다.
+     *
+     * 모든 partition이 같은 기준 시각을 사용하도록 기준 시각을 계산하여 전달한다.
+     */
+    @Bean
+    public Partitioner orderStatusPartitioner() {
+        return gridSize -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            for (StatusTransition transition : StatusTransition.values()) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString("transition", transition.name());
+                context.putString("modifiedBefore", now.minusDays(transition.days).toString());
+                partitions.put(transition.name(), context);
             }
+            return partitions;
         };
     }
 
     /**
-     * ItemProcessor: 주문 상태를 업데이트한다.
+     * ItemReader: 상태를 변경할 주문의 ID와 회원 ID를 keyset 방식으로 chunk-size건씩 조회한다.
+     *
+     * 마지막으로 읽은 주문 ID 이후부터 (status, modified_at, id) 인덱스를 따라 조회하므로
+     * 전체 주문을 메모리에 올리지 않으며, 페이지가 뒤로 가도 조회 비용이 일정하다.
      */
     @Bean
     @StepScope
-    public ItemProcessor<Order, Order> orderItemProcessor() {
-        return order -> {
-            LocalDateTime now = LocalDateTime.now();
+    public ItemReader<OrderStatusTargetDto> orderItemReader(
+            @Value("#{stepExecutionContext['transition']}") String transitionName,
+            @Value("#{stepExecutionContext['modifiedBefore']}") String modifiedBefore) {
+        StatusTransition transition = StatusTransition.valueOf(transitionName);
+        LocalDateTime cutoff = LocalDateTime.parse(modifiedBefore);
 
-            if (order.getStatus() == OrderStatusEnum.PAYMENT_PENDING && order.getModifiedAt().isBefore(now.minusDays(1))) {
-                order.setStatus(OrderStatusEnum.CANCELLED);
-            } else if (order.getStatus() == OrderStatusEnum.PAYMENT_COMPLETED && order.getModifiedAt().isBefore(now.minusDays(1))) {
-                order.setStatus(OrderStatusEnum.SHIPPING);
-            } else if (order.getStatus() == OrderStatusEnum.SHIPPING && order.getModifiedAt().isBefore(now.minusDays(2))) {
-                order.setStatus(OrderStatusEnum.DELIVERED);
-            } else if (order.getStatus() == OrderStatusEnum.DELIVERED && order.getModifiedAt().isBefore(now.minusDays(3))) {
-                order.setStatus(OrderStatusEnum.ORDER_CONFIRMED);
-            }
+        return new ItemReader<>() {
+            private long lastOrderId = 0L;
+            private Iterator<OrderStatusTargetDto> page = Collections.emptyIterator();
 
-            return order;
+            @Override
+            public OrderStatusTargetDto read() {
+                if (!page.hasNext()) {
+                    List<OrderStatusTargetDto> targets = orderRepository.findStatusTransitionTargets(
+                            transition.from, cutoff, lastOrderId, PageRequest.of(0, chunkSize));
+                    if (targets.isEmpty()) {
+                        return null; // 더 이상 읽을 데이터가 없을 경우 종료
+                    }
+                    lastOrderId = targets.get(targets.size() - 1).getOrderId();
+                    page = targets.iterator();
+                }
+                return page.next();
+            }
         };
     }
 
     /**
-     * ItemWriter: 업데이트된 주문을 저장한다.
+     * ItemWriter: chunk에 포함된 주문 ID 범위의 상태를 한 번의 UPDATE로 변경한다.
+     *
+     * UPDATE orders SET status = :to WHERE status = :from AND modified_at < :cutoff AND id BETWEEN :first AND :last
+     * 변경된 건수가 읽은 건수와 같으면 주문 요약 캐시를 증분 갱신하고, 다르면 해당 회원들의 캐시를 삭제한다.
      */
     @Bean
     @StepScope
-    public ItemWriter<Order> orderItemWriter() {
-        return orders -> orderRepository.saveAll(orders);
+    public ItemWriter<OrderStatusTargetDto> orderItemWriter(
+            @Value("#{stepExecutionContext['transition']}") String transitionName,
+            @Value("#{stepExecutionContext['modifiedBefore']}") String modifiedBefore) {
+        StatusTransition transition = StatusTransition.valueOf(transitionName);
+        LocalDateTime cutoff = LocalDateTime.parse(modifiedBefore);
+
+        return chunk -> {
+            List<? extends OrderStatusTargetDto> targets = chunk.getItems();
+            Long firstOrderId = targets.get(0).getOrderId();
+            Long lastOrderId = targets.get(targets.size() - 1).getOrderId();
+
+            int updated = orderRepository.updateStatusByOrderIdRange(
+                    transition.from, transition.to, cutoff, firstOrderId, lastOrderId, LocalDateTime.now());
+
+            if (updated == targets.size()) {
+                orderSummaryCache.statusChanged(targets.stream()
+                        .map(target -> new OrderSummaryCache.Transition(
+                                target.getMemberId(), target.getOrderId(), transition.from, transition.to))
+                        .collect(Collectors.toList()));
+            } else {
+                orderSummaryCache.evict(targets.stream()
+                        .map(OrderStatusTargetDto::getMemberId)
+                        .collect(Collectors.toSet()));
+            }
+            log.info(">>> [{}] 주문 상태 변경 {} -> {}: {}건", transition.name(), transition.from, transition.to, updated);
+        };
+    }
+
+    /* 주문 상태 전이 (변경 전 상태, 변경 후 상태, 변경 전 상태로 유지된 기간) */
+    private enum StatusTransition {
+        PAYMENT_PENDING_TO_CANCELLED(OrderStatusEnum.PAYMENT_PENDING, OrderStatusEnum.CANCELLED, 1),
+        PAYMENT_COMPLETED_TO_SHIPPING(OrderStatusEnum.PAYMENT_COMPLETED, OrderStatusEnum.SHIPPING, 1),
+        SHIPPING_TO_DELIVERED(OrderStatusEnum.SHIPPING, OrderStatusEnum.DELIVERED, 2),
+        DELIVERED_TO_ORDER_CONFIRMED(OrderStatusEnum.DELIVERED, OrderStatusEnum.ORDER_CONFIRMED, 3);
+
+        private final OrderStatusEnum from;
+        private final OrderStatusEnum to;
+        private final int days;
+
+        StatusTransition(OrderStatusEnum from, OrderStatusEnum to, int days) {
+            this.from = from;
+            this.to = to;
+            this.days = days;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.project.orderservice.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC Batch 설정
+ *
+ * 주문, 주문 상품, 결제, 배송 정보는 TABLE 전략(pooled)으로 ID를 미리 할당받으므로
+ * saveAll() 시 여러 INSERT를 하나의 JDBC Batch로 전송할 수 있다.
+ * (MySQL의 경우 JDBC URL에 rewriteBatchedStatements=true를 함께 설정해야 multi-row INSERT로 변환된다.)
+ */
+@Configuration
+public class JpaConfig {
+
+    @Value("${order.jdbc.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);  // 같은 테이블의 INSERT끼리 모아서 전송
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -1,44 +1,258 @@
 package com.project.orderservice.config;
 
+import com.project.orderservice.event.FlashSaleOrderEvent;
+import com.project.orderservice.event.PaymentRequestEvent;
+import com.project.orderservice.event.PaymentResponseEvent;
+import com.project.orderservice.event.ShippingRequestEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @EnableKafka
 @Configuration
 public class KafkaConfig {
+    private static final String DLT_SUFFIX = ".DLT";
+
     @Value("${spring.kafka.producer.host}")
     private String kafkaHost;
 
     @Value("${spring.kafka.producer.port}")
     private int kafkaPort;
 
+    @Value("${spring.kafka.consumer.group-id:order-service}")
+    private String groupId;
+
+    @Value("${order.kafka.batch.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${order.kafka.concurrency.payment-request:3}")
+    private int paymentRequestConcurrency;
+
+    @Value("${order.kafka.concurrency.payment-response:3}")
+    private int paymentResponseConcurrency;
+
+    @Value("${order.kafka.concurrency.shipping:3}")
+    private int shippingConcurrency;
+
+    @Value("${order.kafka.concurrency.flash-sale-order:3}")
+    private int flashSaleOrderConcurrency;
+
+    @Value("${order.kafka.retry.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${order.kafka.retry.initial-interval-ms:500}")
+    private long retryInitialIntervalMillis;
+
+    @Value("${order.kafka.retry.max-interval-ms:5000}")
+    private long retryMaxIntervalMillis;
+
+    @Value("${kafka.producer.profile:throughput}")
+    private String producerProfile;
+
+    @Value("${kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.producer.acks:all}")
+    private String acks;
+
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory, MeterRegistry meterRegistry) {
+        KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setProducerListener(new KafkaSendListener<>(meterRegistry));  // 전송 결과 Callback & 지표
+        return kafkaTemplate;
     }
 
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaHost + ":" + kafkaPort);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        applyProducerProfile(config);
+
+        // 이벤트는 ID 위주의 compact JSON으로 전송 (타입 정보는 Consumer의 listener 파라미터 타입으로 결정)
+        // Serializer 인스턴스를 전달하면 설정 Map의 Serializer 설정은 무시되므로 인스턴스에 직접 설정한다.
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), new JsonSerializer<Object>().noTypeInfo());
+    }
+
+    /* Outbox Relay 전용 KafkaTemplate (이미 JSON으로 저장된 이벤트를 그대로 전송) */
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate(ProducerFactory<String, String> outboxProducerFactory, MeterRegistry meterRegistry) {
+        KafkaTemplate<String, String> outboxKafkaTemplate = new KafkaTemplate<>(outboxProducerFactory);
+        outboxKafkaTemplate.setProducerListener(new KafkaSendListener<>(meterRegistry));
+        return outboxKafkaTemplate;
+    }
 
-        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
-        jsonSerializer.setAddTypeInfo(true);
+    /**
+     * Outbox Relay 전용 ProducerFactory
+     *
+     * Relay는 전송 실패 시 같은 이벤트를 다시 전송하므로 idempotent producer로 설정하여
+     * Producer 재시도로 인한 중복 저장과 순서 변경을 막는다. (kafka.producer.acks 설정과 관계없이 acks=all)
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaHost + ":" + kafkaPort);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        applyProducerProfile(config);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
 
         return new DefaultKafkaProducerFactory<>(config);
     }
 
-}
\ No newline at end of file
+    /* 결제 요청 이벤트 Listener (payment-request-topic) */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentRequestEvent> paymentRequestListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        return batchListenerContainerFactory(PaymentRequestEvent.class, paymentRequestConcurrency, deadLetterRecoverer);
+    }
+
+    /* 결제 결과 이벤트 Listener (payment-response-topic) */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentResponseEvent> paymentResponseListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        return batchListenerContainerFactory(PaymentResponseEvent.class, paymentResponseConcurrency, deadLetterRecoverer);
+    }
+
+    /* 배송 정보 저장 이벤트 Listener (shipping-topic) */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ShippingRequestEvent> shippingListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        return batchListenerContainerFactory(ShippingRequestEvent.class, shippingConcurrency, deadLetterRecoverer);
+    }
+
+    /* 주문 접수 이벤트 Listener (flash-sale-order-topic) */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, FlashSaleOrderEvent> flashSaleOrderListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        return batchListenerContainerFactory(FlashSaleOrderEvent.class, flashSaleOrderConcurrency, deadLetterRecoverer);
+    }
+
+    /**
+     * Dead Letter Topic 전송
+     *
+     * 재시도 후에도 처리하지 못한 이벤트와 역직렬화에 실패한 이벤트를 {topic}.DLT로 전송한다.
+     * DLT의 partition 수는 원본 topic과 다를 수 있으므로 partition은 지정하지 않는다.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterRecoverer(MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaHost + ":" + kafkaPort);
+        applyProducerProfile(config);
+
+        // 역직렬화에 실패한 이벤트는 원본 byte[] 그대로, 처리에 실패한 이벤트는 JSON으로 전송
+        Map<Class<?>, Serializer<?>> serializers = new LinkedHashMap<>();
+        serializers.put(byte[].class, new ByteArraySerializer());
+        serializers.put(Object.class, new JsonSerializer<>().noTypeInfo());
+
+        KafkaTemplate<String, Object> deadLetterTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                config, new StringSerializer(), new DelegatingByTypeSerializer(serializers, true)));
+        deadLetterTemplate.setProducerListener(new KafkaSendListener<>(meterRegistry));
+
+        return new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+    }
+
+    /**
+     * Batch Listener Container Factory
+     *
+     * - 이벤트 타입별 JsonDeserializer로 역직렬화 (역직렬화에 실패한 이벤트는 listener에 전달하지 않고 바로 DLT로 전송)
+     * - concurrency: listener thread 수 (topic의 partition 수 이하로 설정)
+     * - AckMode.BATCH: 수신한 이벤트 묶음을 모두 처리한 뒤 한 번에 offset commit
+     * - listener가 BatchListenerFailedException으로 실패한 이벤트의 위치를 알리면, 앞선 이벤트의 offset은 커밋하고
+     *   실패한 이벤트부터 backoff 간격으로 재시도하며, 그래도 실패하면 해당 이벤트만 DLT로 전송 (BatchTransactionExecutor)
+     * - 그 밖의 예외는 묶음 전체를 재시도하고, 그래도 실패하면 각 이벤트를 DLT로 전송
+     *
+     * @param eventType 이벤트 타입
+     * @param concurrency listener thread 수
+     * @param deadLetterRecoverer DLT 전송
+     */
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> batchListenerContainerFactory(
+            Class<T> eventType, int concurrency, DeadLetterPublishingRecoverer deadLetterRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory(eventType));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        factory.setRecordFilterStrategy(record -> {
+            if (record.value() != null) {
+                return false;
+            }
+            deadLetterRecoverer.accept(record, new IllegalStateException("이벤트 역직렬화 실패 - " + eventType.getSimpleName()));
+            return true;
+        });
+        factory.setAckDiscarded(true);
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(retryInitialIntervalMillis);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(retryMaxIntervalMillis);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterRecoverer, backOff));
+
+        return factory;
+    }
+
+    /* 이벤트 타입별 ConsumerFactory (타입 헤더 대신 지정한 이벤트 타입으로 역직렬화) */
+    private <T> ConsumerFactory<String, T> consumerFactory(Class<T> eventType) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaHost + ":" + kafkaPort);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        JsonDeserializer<T> deserializer = new JsonDeserializer<>(eventType, false);
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new ErrorHandlingDeserializer<>(deserializer));
+    }
+
+    /**
+     * Producer 전송 설정 (kafka.producer.profile)
+     *
+     * - throughput(기본값): linger-ms 동안 이벤트를 batch-size까지 모아 압축(compression-type)하여 전송
+     * - latency: 이벤트를 모으지 않고 바로 전송하며 압축하지 않음
+     * acks=all이면 idempotent producer로 설정하여 재시도 시 이벤트가 중복 저장되거나 순서가 바뀌지 않도록 한다.
+     *
+     * @param config Producer 설정
+     */
+    private void applyProducerProfile(Map<String, Object> config) {
+        boolean latency = "latency".equalsIgnoreCase(producerProfile);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, latency ? 0 : lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, latency ? 16384 : batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, latency ? "none" : compressionType);
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "all".equals(acks));
+    }
+}
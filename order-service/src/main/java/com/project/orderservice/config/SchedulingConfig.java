@@ -0,0 +1,40 @@
+package com.project.orderservice.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업 실행 스레드 풀 설정
+ *
+ * 주문 서비스의 주기 작업은 OutboxRelay의 이벤트 전송과 SoldOutProductCache의 품절 상품 목록 갱신이다.
+ * 기본 스케줄러는 스레드가 하나뿐이라, Kafka 전송이 느려져 relay가 길어지면 품절 목록 갱신이 밀리고
+ * 반대로 목록 갱신 중에는 outbox 이벤트 전송이 멈춘다.
+ * 두 작업이 서로 기다리지 않도록 pool-size개의 스레드를 가진 스케줄러를 사용한다.
+ * (스케줄러를 Bean으로 등록하면 Executor Bean으로도 인식되어 기본 TaskExecutor 자동 설정이 꺼지므로 Bean으로 등록하지 않는다.)
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${order.scheduling.pool-size:4}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("order-scheduler-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        taskScheduler.initialize();
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+}
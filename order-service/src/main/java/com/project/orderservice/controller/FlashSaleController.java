@@ -1,9 +1,11 @@
 package com.project.orderservice.controller;
 
 import com.project.orderservice.dto.FlashSaleRequestDto;
+import com.project.orderservice.dto.FlashSaleTicketResponseDto;
 import com.project.orderservice.dto.OrderResponseDto;
 import com.project.orderservice.exception.CustomException;
 import com.project.orderservice.exception.ErrorCode;
+import com.project.orderservice.service.FlashSaleQueueService;
 import com.project.orderservice.service.FlashSaleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class FlashSaleController {
 
     private final FlashSaleService flashSaleService;
+    private final FlashSaleQueueService flashSaleQueueService;
 
     /* 주문 요청 - 주문 가능 여부 확인 및 주문하기 */
     @PostMapping("/flash-sale/request")
@@ -40,4 +43,19 @@ public class FlashSaleController {
         }
     }
 
-}
\ No newline at end of file
+    /* 주문 접수 - 재고 감소 후 주문 요청을 큐에 넣고 접수 번호 반환 */
+    @PostMapping("/flash-sale/queue")
+    public ResponseEntity<FlashSaleTicketResponseDto> enqueueOrder(@RequestHeader("X-Member-Id") String id,
+                                                                   @Valid @RequestBody FlashSaleRequestDto flashSaleRequestDto) {
+        FlashSaleTicketResponseDto ticketResponseDto = flashSaleQueueService.enqueueOrder(id, flashSaleRequestDto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticketResponseDto);
+    }
+
+    /* 접수 번호로 주문 처리 상태 조회 */
+    @GetMapping("/flash-sale/queue/{ticket}")
+    public ResponseEntity<FlashSaleTicketResponseDto> getOrderStatus(@RequestHeader("X-Member-Id") String id,
+                                                                     @PathVariable String ticket) {
+        return ResponseEntity.ok(flashSaleQueueService.getOrderStatus(id, ticket));
+    }
+
+}
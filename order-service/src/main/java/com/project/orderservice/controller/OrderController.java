@@ -1,7 +1,9 @@
 package com.project.orderservice.controller;
 
+import com.project.orderservice.dto.OrderHistoryResponseDto;
 import com.project.orderservice.dto.OrderRequestDto;
 import com.project.orderservice.dto.OrderResponseDto;
+import com.project.orderservice.dto.OrderSummaryResponseDto;
 import com.project.orderservice.entity.OrderStatusEnum;
 import com.project.orderservice.exception.CustomException;
 import com.project.orderservice.exception.ErrorCode;
@@ -17,7 +19,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -81,12 +82,21 @@ public class OrderController {
     /* 사용자별 전체 주문 내역 조회 */
     @GetMapping("/orders")
     public ResponseEntity<List<OrderResponseDto>> getOrdersByMemberId(@RequestHeader("X-Member-Id") String id) {
-        Iterable<OrderResponseDto> orderList = orderService.getOrdersByMemberId(id);
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.getOrdersByMemberId(id));
+    }
 
-        List<OrderResponseDto> result = new ArrayList<>();
-        orderList.forEach(result::add);
+    /* 사용자별 주문 내역 페이지 조회 (최신순, cursor: 이전 페이지의 nextCursor) */
+    @GetMapping("/orders/history")
+    public ResponseEntity<OrderHistoryResponseDto> getOrderHistory(@RequestHeader("X-Member-Id") String id,
+                                                                   @RequestParam(value = "cursor", required = false) String cursor,
+                                                                   @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(orderService.getOrderHistory(id, cursor, size));
+    }
 
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+    /* 사용자별 주문 요약 조회 (상태별 주문 수 & 최근 주문) */
+    @GetMapping("/orders/summary")
+    public ResponseEntity<OrderSummaryResponseDto> getOrderSummary(@RequestHeader("X-Member-Id") String id) {
+        return ResponseEntity.ok(orderService.getOrderSummary(id));
     }
 
     /* 주문 상세 조회 */
@@ -0,0 +1,14 @@
+package com.project.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class FlashSaleTicketResponseDto {
+    private String ticket;
+    private String status;      //QUEUED(접수 대기) 또는 OrderStatusEnum
+    private Long orderId;       //주문 저장 전에는 null
+}
@@ -0,0 +1,19 @@
+package com.project.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/* 주문 내역 페이지 (다음 페이지는 nextCursor({주문 일시}_{주문 ID})보다 이전 주문부터 조회) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryResponseDto {
+    private List<OrderResponseDto> orders;
+    private String nextCursor;    //마지막 페이지이면 null
+    private boolean hasNext;
+}
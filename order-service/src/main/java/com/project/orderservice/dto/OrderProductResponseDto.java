@@ -1,10 +1,14 @@
 package com.project.orderservice.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderProductResponseDto {
     private Long orderProductId;
     private int unitPrice;
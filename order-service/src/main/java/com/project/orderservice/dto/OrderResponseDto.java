@@ -3,12 +3,15 @@ package com.project.orderservice.dto;
 import com.project.orderservice.entity.Order;
 import com.project.orderservice.entity.OrderStatusEnum;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class OrderResponseDto {
     private Long orderId;
     private int totalPrice;
@@ -18,6 +21,8 @@ public class OrderResponseDto {
 
     private Long memberId;
 
+    private List<OrderProductResponseDto> orderProducts;    //주문 내역 조회 시에만 포함
+
     public OrderResponseDto(Order order) {
         this.orderId = order.getOrderId();
         this.totalPrice = order.getTotalPrice();
@@ -26,8 +31,15 @@ public class OrderResponseDto {
         this.createdAt = order.getCreatedAt();
         this.memberId = order.getMemberId();
     }
-}
-
-
-
 
+    /* 주문 내역 조회 (JPQL DTO Projection) */
+    public OrderResponseDto(Long orderId, int totalPrice, int totalQuantity, OrderStatusEnum status,
+                            LocalDateTime createdAt, Long memberId) {
+        this.orderId = orderId;
+        this.totalPrice = totalPrice;
+        this.totalQuantity = totalQuantity;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.memberId = memberId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 상태를 변경할 주문 (주문 상태 업데이트 Batch) */
+@Getter
+@AllArgsConstructor
+public class OrderStatusTargetDto {
+    private Long orderId;
+    private Long memberId;
+}
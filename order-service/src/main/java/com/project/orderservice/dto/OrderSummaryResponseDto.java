@@ -0,0 +1,20 @@
+package com.project.orderservice.dto;
+
+import com.project.orderservice.entity.OrderStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/* 회원별 주문 요약 (상태별 주문 수 & 최근 주문 목록) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryResponseDto {
+    private Map<OrderStatusEnum, Long> statusCounts;
+    private List<OrderResponseDto> recentOrders;
+}
@@ -0,0 +1,23 @@
+package com.project.orderservice.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockRequestDto {
+    private Long productId;
+    private int quantity;
+
+    public StockRequestDto(Long productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public StockRequestDto(OrderProductRequestDto orderProductRequestDto) {
+        this.productId = orderProductRequestDto.getProductId();
+        this.quantity = orderProductRequestDto.getQuantity();
+    }
+}
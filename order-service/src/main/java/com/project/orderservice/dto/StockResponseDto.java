@@ -0,0 +1,13 @@
+package com.project.orderservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StockResponseDto {
+    private Long productId;
+    private int quantity;
+    private long remainingStock;
+    private boolean reserved;
+}
@@ -10,10 +10,15 @@ import java.io.Serializable;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id_created_at_id", columnList = "user_id, created_at, id"),   //회원별 주문 내역 (keyset 페이지 조회)
+        @Index(name = "idx_orders_status_modified_at_id", columnList = "status, modified_at, id")   //주문 상태 업데이트 Batch
+})
 public class Order extends Timestamped implements Serializable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @TableGenerator(name = "order_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "orders", allocationSize = 100)
     @Column(name = "id")
     private Long orderId;
 
@@ -30,4 +35,7 @@ public class Order extends Timestamped implements Serializable {
     @Column(name = "user_id", nullable = false)
     private Long memberId;
 
+    @Column(unique = true, length = 36)
+    private String ticket;    //Flash Sale 주문 접수 번호 (같은 접수 요청이 다시 전달되어도 주문이 한 번만 저장되도록)
+
 }
@@ -11,10 +11,12 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "order_products")
+@Table(name = "order_products", indexes = @Index(name = "idx_order_products_order_id", columnList = "order_id"))
 public class OrderProduct {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_product_id_generator")
+    @TableGenerator(name = "order_product_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "order_products", allocationSize = 100)
     @Column(name = "id")
     private Long orderProductId;
 
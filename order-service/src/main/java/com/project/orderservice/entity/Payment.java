@@ -11,7 +11,9 @@ import lombok.*;
 @Table(name = "payments")
 public class Payment extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payment_id_generator")
+    @TableGenerator(name = "payment_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "payments", allocationSize = 100)
     @Column(name = "id")
     private Long paymentId;
 
@@ -20,6 +22,6 @@ public class Payment extends Timestamped {
     private PaymentStatusEnum status = PaymentStatusEnum.PAYMENT_PENDING;
 
     @OneToOne
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", unique = true)     //주문당 결제 정보는 하나
     private Order order;
 }
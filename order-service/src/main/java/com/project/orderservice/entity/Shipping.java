@@ -14,7 +14,9 @@ import lombok.Setter;
 @Table(name = "shipping")
 public class Shipping {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "shipping_id_generator")
+    @TableGenerator(name = "shipping_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "shipping", allocationSize = 100)
     @Column(name = "id")
     private Long shippingId;
 
@@ -25,7 +27,7 @@ public class Shipping {
     private String phone;
 
     @OneToOne
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", unique = true)
     private Order order;
 
     public Shipping(String address, String addressDetail, String phone, Order order) {
@@ -0,0 +1,10 @@
+package com.project.orderservice.event;
+
+import com.project.orderservice.dto.FlashSaleRequestDto;
+
+public record FlashSaleOrderEvent(
+        String ticket,
+        Long memberId,
+        FlashSaleRequestDto flashSaleRequest
+) {
+}
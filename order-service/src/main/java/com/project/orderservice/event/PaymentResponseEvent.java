@@ -1,12 +1,12 @@
 package com.project.orderservice.event;
 
-import com.project.orderservice.dto.OrderProductRequestDto;
-import com.project.orderservice.entity.Order;
 import com.project.orderservice.entity.PaymentStatusEnum;
 
 public record PaymentResponseEvent(
-        Order order,
-        OrderProductRequestDto orderProductRequestDto,
+        Long orderId,
+        Long memberId,
+        Long productId,
+        int quantity,
         PaymentStatusEnum status
 ) {
 }
@@ -1,11 +1,9 @@
 package com.project.orderservice.event;
 
-import com.project.orderservice.entity.Order;
-
 public record ShippingRequestEvent(
+        Long orderId,
         String address,
         String addressDetail,
-        String phone,
-        Order order
+        String phone
 ) {
 }
@@ -13,6 +13,8 @@ public enum ErrorCode {
     CANCELLATION_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "ORDER-004", "해당 주문은 취소할 수 없습니다."),
     RETURN_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "ORDER-005", "해당 주문은 반품 신청이 불가능합니다."),
     ORDER_IS_NOT_RETURN_REQUESTED(HttpStatus.BAD_REQUEST, "ORDER-006", "반품 신청이 접수되지 않은 상태입니다."),
+    ORDER_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER-007", "주문 접수 내역을 찾을 수 없습니다."),
+    INVALID_ORDER_HISTORY_CURSOR(HttpStatus.BAD_REQUEST, "ORDER-008", "주문 내역 페이지 정보가 올바르지 않습니다."),
 
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "PAYMENT-001", "결제에 실패했습니다."),
 
@@ -29,7 +31,8 @@ public enum ErrorCode {
     DATA_INTEGRITY_VIOLATION(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER-003", "데이터 무결성 위반 오류가 발생했습니다."),
 
     ORDER_LOCK_FAILED(HttpStatus.CONFLICT, "O_LOCK-001", "LOCK을 획득하지 못했습니다."),
-    ORDER_LOCK_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "O_LOCK-002", "LOCK 처리 중에 인터럽트가 발생했습니다.");
+    ORDER_LOCK_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "O_LOCK-002", "LOCK 처리 중에 인터럽트가 발생했습니다."),
+    ORDER_LOCK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "O_LOCK-003", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -13,7 +13,7 @@ public class FeignErrorDecoder implements ErrorDecoder {
     public Exception decode(String methodKey, Response response) {
         switch (response.status()) {
             case 400:
-                if (methodKey.contains("checkProductForOrder")) {
+                if (methodKey.contains("checkProductForOrder") || methodKey.contains("reduceStockBatch")) {
                     return new CustomException(ErrorCode.STOCK_INSUFFICIENT);
                 }
                 return new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
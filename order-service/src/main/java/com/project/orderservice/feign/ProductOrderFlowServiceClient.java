@@ -1,11 +1,16 @@
 package com.project.orderservice.feign;
 
+import com.project.orderservice.dto.StockRequestDto;
+import com.project.orderservice.dto.StockResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(name = "product-service")
 public interface ProductOrderFlowServiceClient {
 
@@ -17,8 +22,16 @@ public interface ProductOrderFlowServiceClient {
     @PostMapping("/order-flow/reduce-stock")
     public ResponseEntity reduceStock(@RequestParam Long productId, @RequestParam int quantity);
 
+    /* 여러 상품의 재고 수량 감소 (all-or-nothing) */
+    @PostMapping("/order-flow/reduce-stock/batch")
+    public ResponseEntity<List<StockResponseDto>> reduceStockBatch(@RequestBody List<StockRequestDto> stockRequestList);
+
     /* 재고 rollback (결제 실패, 주문 취소, 반품 승인) */
     @PostMapping("/order-flow/rollback-stock")
     public ResponseEntity rollbackStock(@RequestParam Long productId, @RequestParam int quantity);
 
-}
\ No newline at end of file
+    /* 여러 상품의 재고 rollback (결제 실패, 주문 취소, 반품 승인) */
+    @PostMapping("/order-flow/rollback-stock/batch")
+    public ResponseEntity<List<StockResponseDto>> rollbackStockBatch(@RequestBody List<StockRequestDto> stockRequestList);
+
+}
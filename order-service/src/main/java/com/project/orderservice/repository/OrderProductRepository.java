@@ -1,8 +1,11 @@
 package com.project.orderservice.repository;
 
+import com.project.orderservice.dto.OrderProductResponseDto;
 import com.project.orderservice.entity.OrderProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long> {
@@ -14,4 +17,15 @@ public interface OrderProductRepository extends JpaRepository<OrderProduct, Long
      * @return 해당 주문에 해당하는 OrderProduct 목록
      */
     List<OrderProduct> findAllByOrderOrderId(Long orderId);
+
+    /**
+     * 여러 주문의 주문 상품 목록을 한 번에 조회한다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문 상품 목록
+     */
+    @Query("SELECT new com.project.orderservice.dto.OrderProductResponseDto(" +
+            "op.orderProductId, op.unitPrice, op.quantity, op.order.orderId, op.productId) " +
+            "FROM OrderProduct op WHERE op.order.orderId IN :orderIds")
+    List<OrderProductResponseDto> findAllByOrderIds(Collection<Long> orderIds);
 }
@@ -1,16 +1,53 @@
 package com.project.orderservice.repository;
 
+import com.project.orderservice.dto.OrderResponseDto;
+import com.project.orderservice.dto.OrderStatusTargetDto;
 import com.project.orderservice.entity.Order;
 import com.project.orderservice.entity.OrderStatusEnum;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     Iterable<Order> findByMemberId(Long memberId);
 
+    /**
+     * 회원의 주문 내역을 최신순(주문 일시, 주문 ID)으로 조회한다. (첫 페이지)
+     * 주문 ID는 인스턴스별로 미리 할당받은 범위에서 발급되어 발급 순서가 주문 순서와 다를 수 있으므로 주문 일시로 정렬하고,
+     * 같은 일시의 주문은 주문 ID로 구분한다. (user_id, created_at, id) 인덱스를 따라 필요한 건수만 읽으며, 엔티티 대신 DTO로 바로 조회한다.
+     *
+     * @param memberId 주문 내역을 조회할 회원의 ID
+     * @param pageable 조회할 주문 수
+     * @return 주문 내역 (주문 상품 미포함)
+     */
+    @Query("SELECT new com.project.orderservice.dto.OrderResponseDto(" +
+            "o.orderId, o.totalPrice, o.totalQuantity, o.status, o.createdAt, o.memberId) " +
+            "FROM Order o WHERE o.memberId = :memberId ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderResponseDto> findOrderHistory(Long memberId, Pageable pageable);
+
+    /**
+     * 회원의 주문 내역을 최신순(주문 일시, 주문 ID)으로 cursor 이전 주문부터 조회한다. (다음 페이지)
+     *
+     * @param memberId 주문 내역을 조회할 회원의 ID
+     * @param cursorCreatedAt 이전 페이지의 마지막 주문 일시
+     * @param cursorOrderId 이전 페이지의 마지막 주문 ID
+     * @param pageable 조회할 주문 수
+     * @return 주문 내역 (주문 상품 미포함)
+     */
+    @Query("SELECT new com.project.orderservice.dto.OrderResponseDto(" +
+            "o.orderId, o.totalPrice, o.totalQuantity, o.status, o.createdAt, o.memberId) " +
+            "FROM Order o WHERE o.memberId = :memberId " +
+            "AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.orderId < :cursorOrderId)) " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderResponseDto> findOrderHistoryBefore(Long memberId, LocalDateTime cursorCreatedAt, Long cursorOrderId, Pageable pageable);
+
     /**
      * 특정 상태의 주문 중에서 주어진 날짜보다 이전에 수정된 주문 목록을 조회한다.
      *
@@ -20,6 +57,48 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     List<Order> findAllByStatusAndModifiedAtBefore(OrderStatusEnum orderStatusEnum, LocalDateTime localDateTime);
 
+    /**
+     * 특정 상태로 기준 시점 이전에 수정된 주문의 ID와 회원 ID를 주문 ID 순으로 조회한다.
+     * lastOrderId 이후의 주문부터 조회하므로 (status, modified_at, id) 인덱스를 따라 keyset 방식으로 나누어 읽을 수 있다.
+     *
+     * @param status 조회할 주문의 status
+     * @param modifiedAt 기준 시점(이 날짜 이전에 수정된 주문)
+     * @param lastOrderId 이전에 마지막으로 조회한 주문 ID (처음에는 0)
+     * @param pageable 조회할 주문 수
+     * @return 상태를 변경할 주문 목록
+     */
+    @Query("SELECT new com.project.orderservice.dto.OrderStatusTargetDto(o.orderId, o.memberId) FROM Order o " +
+            "WHERE o.status = :status AND o.modifiedAt < :modifiedAt AND o.orderId > :lastOrderId ORDER BY o.orderId")
+    List<OrderStatusTargetDto> findStatusTransitionTargets(OrderStatusEnum status, LocalDateTime modifiedAt,
+                                                          Long lastOrderId, Pageable pageable);
+
+    /**
+     * 주문 ID 범위 안에서 특정 상태로 기준 시점 이전에 수정된 주문의 상태를 한 번의 UPDATE로 변경한다.
+     *
+     * @param currentStatus 변경 전 주문 상태
+     * @param status 변경할 주문 상태
+     * @param modifiedBefore 기준 시점(이 날짜 이전에 수정된 주문)
+     * @param firstOrderId 범위의 첫 주문 ID
+     * @param lastOrderId 범위의 마지막 주문 ID
+     * @param modifiedAt 수정 시각
+     * @return 변경된 주문 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.modifiedAt = :modifiedAt " +
+            "WHERE o.status = :currentStatus AND o.modifiedAt < :modifiedBefore " +
+            "AND o.orderId BETWEEN :firstOrderId AND :lastOrderId")
+    int updateStatusByOrderIdRange(OrderStatusEnum currentStatus, OrderStatusEnum status, LocalDateTime modifiedBefore,
+                                   Long firstOrderId, Long lastOrderId, LocalDateTime modifiedAt);
+
+    /**
+     * 회원의 주문 상태별 주문 수를 조회한다.
+     *
+     * @param memberId 조회할 회원의 ID
+     * @return [주문 상태(OrderStatusEnum), 주문 수(Long)] 목록
+     */
+    @Query("SELECT o.status, COUNT(o) FROM Order o WHERE o.memberId = :memberId GROUP BY o.status")
+    List<Object[]> countByStatus(Long memberId);
+
     /**
      * 특정 회원의 특정 주문 조회
      * 
@@ -28,4 +107,30 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return 해당 조건에 맞는 주문
      */
     Optional<Order> findByOrderIdAndMemberId(Long orderId, Long memberId);
+
+    /**
+     * 접수 번호로 이미 저장된 주문의 ID를 조회한다.
+     *
+     * @param tickets 접수 번호 목록
+     * @return [접수 번호, 주문 ID] 목록
+     */
+    @Query("SELECT o.ticket, o.orderId FROM Order o WHERE o.ticket IN :tickets")
+    List<Object[]> findOrderIdsByTicketIn(Collection<String> tickets);
+
+    /**
+     * 여러 주문 중 현재 상태가 currentStatus인 주문만 한 번의 UPDATE로 상태를 변경한다.
+     * 이미 다른 상태로 변경된 주문은 변경하지 않으므로 같은 이벤트를 여러 번 처리해도 결과가 같다.
+     * (벌크 UPDATE는 Auditing이 적용되지 않으므로 수정 시각을 함께 전달한다.)
+     *
+     * @param orderIds 상태를 변경할 주문의 ID 목록
+     * @param currentStatus 변경 전 주문 상태
+     * @param status 변경할 주문 상태
+     * @param modifiedAt 수정 시각
+     * @return 변경된 주문 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.modifiedAt = :modifiedAt " +
+            "WHERE o.orderId IN :orderIds AND o.status = :currentStatus")
+    int updateStatusByOrderIds(List<Long> orderIds, OrderStatusEnum currentStatus, OrderStatusEnum status, LocalDateTime modifiedAt);
 }
@@ -0,0 +1,25 @@
+package com.project.orderservice.repository;
+
+import com.project.orderservice.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전송 대기 중인 이벤트를 저장 순서대로 조회한다.
+     * 다른 인스턴스의 Relay가 처리 중인(잠금된) 이벤트는 건너뛴다. (SELECT ... FOR UPDATE SKIP LOCKED)
+     *
+     * @param pageable 조회할 이벤트 수
+     * @return 전송 대기 중인 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEvent> findAllByOrderByOutboxEventIdAsc(Pageable pageable);
+}
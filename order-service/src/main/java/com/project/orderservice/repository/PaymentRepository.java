@@ -2,6 +2,19 @@ package com.project.orderservice.repository;
 
 import com.project.orderservice.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    /**
+     * 결제 정보가 이미 저장된 주문의 ID 목록을 조회한다.
+     *
+     * @param orderIds 조회할 주문의 ID 목록
+     * @return 결제 정보가 있는 주문의 ID 목록
+     */
+    @Query("SELECT p.order.orderId FROM Payment p WHERE p.order.orderId IN :orderIds")
+    List<Long> findOrderIdsByOrderIdIn(Collection<Long> orderIds);
 }
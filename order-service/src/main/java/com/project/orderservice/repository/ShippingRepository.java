@@ -2,7 +2,20 @@ package com.project.orderservice.repository;
 
 import com.project.orderservice.entity.Shipping;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ShippingRepository extends JpaRepository<Shipping, Long> {
+
+    /**
+     * 배송 정보가 이미 저장된 주문의 ID 목록을 조회한다.
+     *
+     * @param orderIds 조회할 주문의 ID 목록
+     * @return 배송 정보가 있는 주문의 ID 목록
+     */
+    @Query("SELECT s.order.orderId FROM Shipping s WHERE s.order.orderId IN :orderIds")
+    List<Long> findOrderIdsByOrderIdIn(Collection<Long> orderIds);
 }
 
@@ -0,0 +1,52 @@
+package com.project.orderservice.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Kafka Batch Listener 처리 지표
+ *
+ * listener별로 아래 지표를 기록하여 partition 수와 max.poll.records 설정에 참고한다.
+ * - order.kafka.batch.duration: 한 번에 수신한 이벤트 묶음의 처리 시간
+ * - order.kafka.batch.size: 한 번에 수신한 이벤트 수
+ * - order.kafka.batch.lag: 묶음 중 가장 오래된 이벤트가 전송된 시점부터 처리 완료까지의 지연 시간
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchListenerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이벤트 묶음 처리 지표 기록
+     *
+     * @param listener listener 이름 (tag)
+     * @param startNanos 처리 시작 시점 (System.nanoTime())
+     * @param timestamps 수신한 이벤트들의 전송 시점 (epoch millis)
+     */
+    public void record(String listener, long startNanos, List<Long> timestamps) {
+        Timer.builder("order.kafka.batch.duration")
+                .tag("listener", listener)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
+
+        DistributionSummary.builder("order.kafka.batch.size")
+                .tag("listener", listener)
+                .register(meterRegistry)
+                .record(timestamps.size());
+
+        timestamps.stream()
+                .mapToLong(Long::longValue)
+                .min()
+                .ifPresent(oldest -> Timer.builder("order.kafka.batch.lag")
+                        .tag("listener", listener)
+                        .register(meterRegistry)
+                        .record(Duration.ofMillis(System.currentTimeMillis() - oldest)));
+    }
+}
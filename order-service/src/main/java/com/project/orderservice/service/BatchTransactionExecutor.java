@@ -0,0 +1,55 @@
+package com.project.orderservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Kafka Batch Listener 트랜잭션 처리
+ *
+ * 수신한 이벤트 묶음을 하나의 트랜잭션으로 처리하고, 실패하면 이벤트별 트랜잭션으로 다시 처리한다.
+ * 개별 처리 중 실패한 이벤트는 BatchListenerFailedException으로 위치(index)를 알려,
+ * DefaultErrorHandler가 앞선 이벤트의 offset은 커밋하고 실패한 이벤트부터 재시도 & DLT 전송하도록 한다.
+ * (실패한 이벤트 이후의 이벤트는 다시 수신되므로, handler는 같은 이벤트를 여러 번 처리해도 결과가 같아야 한다.)
+ */
+@Slf4j
+@Component
+public class BatchTransactionExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BatchTransactionExecutor(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이벤트 묶음 처리
+     *
+     * @param listener listener 이름 (로그)
+     * @param events 수신한 이벤트 목록
+     * @param handler 하나의 트랜잭션 안에서 이벤트 목록을 처리하는 작업
+     * @throws BatchListenerFailedException 개별 처리 중 실패한 이벤트가 있는 경우 (첫 번째로 실패한 이벤트의 index)
+     */
+    public <T> void execute(String listener, List<T> events, Consumer<List<T>> handler) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> handler.accept(events));
+            return;
+        } catch (Exception e) {
+            log.error("[{}] 이벤트 일괄 처리 실패 - {}건, 개별 처리 재시도: {}", listener, events.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            List<T> event = List.of(events.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> handler.accept(event));
+            } catch (Exception e) {
+                throw new BatchListenerFailedException("[" + listener + "] 이벤트 처리 실패 - " + e.getMessage(), e, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.project.orderservice.service;
+
+import com.project.orderservice.dto.FlashSaleRequestDto;
+import com.project.orderservice.dto.FlashSaleTicketResponseDto;
+import com.project.orderservice.entity.Order;
+import com.project.orderservice.entity.OrderStatusEnum;
+import com.project.orderservice.event.FlashSaleOrderEvent;
+import com.project.orderservice.exception.CustomException;
+import com.project.orderservice.exception.ErrorCode;
+import com.project.orderservice.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Flash Sale 주문 접수 큐
+ *
+ * 주문 요청 시 재고만 먼저 감소시키고, 주문 정보는 Kafka(flash-sale-order-topic)에 넣은 뒤 접수 번호(ticket)를 바로 반환한다.
+ * Consumer는 여러 주문 요청을 한 번에 수신하여 하나의 트랜잭션으로 저장하며,
+ * 클라이언트는 접수 번호로 주문 처리 상태를 조회한다.
+ * 접수 상태는 Redis Hash(flash_sale_ticket: {ticket})에 일정 시간(ticket-ttl-minutes) 동안 보관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlashSaleQueueService {
+
+    private static final String FLASH_SALE_ORDER_TOPIC = "flash-sale-order-topic";
+    private static final String TICKET_KEY_PREFIX = "flash_sale_ticket: ";
+    private static final String QUEUED = "QUEUED";
+    private static final String STATUS_FIELD = "status";
+    private static final String MEMBER_ID_FIELD = "memberId";
+    private static final String ORDER_ID_FIELD = "orderId";
+
+    private final FlashSaleService flashSaleService;
+    private final OrderRepository orderRepository;
+    private final RedissonClient redissonClient;
+    private final BatchListenerMetrics batchListenerMetrics;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${order.flash-sale.ticket-ttl-minutes:60}")
+    private long ticketTtlMinutes;
+
+    /**
+     * 주문 접수
+     *
+     * 1. 주문 가능 여부(구매 가능 시간 & 재고) 확인
+     * 2. 재고 수량 감소
+     * 3. 접수 번호 발급 후 주문 요청을 큐에 전송
+     * 큐 전송에 실패하면 재고를 롤백하고 접수 상태를 ORDER_FAILED로 변경한다.
+     * 접수 정보 저장 또는 큐 전송 요청 중 예외가 발생하면 감소시킨 재고를 롤백한 뒤 예외를 다시 던진다.
+     *
+     * @param id 주문을 요청한 회원의 ID
+     * @param flashSaleRequestDto 주문 요청에 필요한 정보 (상품, 배송 정보)
+     * @return 접수 번호와 접수 상태(QUEUED)
+     */
+    public FlashSaleTicketResponseDto enqueueOrder(String id, FlashSaleRequestDto flashSaleRequestDto) {
+        Long memberId = Long.parseLong(id);
+
+        // 1. 구매 가능 시간 & 재고 확인
+        if (!flashSaleService.requestOrder(flashSaleRequestDto)) {
+            throw new CustomException(ErrorCode.ORDER_REQUEST_DENIED);
+        }
+
+        // 2. 재고 수량 감소
+        flashSaleService.reduceStock(flashSaleRequestDto.getOrderProduct());
+
+        // 3. 접수 번호 발급 & 큐 전송 (같은 회원의 요청은 같은 partition)
+        String ticket = UUID.randomUUID().toString();
+        try {
+            RMap<String, String> ticketMap = getTicket(ticket);
+            ticketMap.putAll(Map.of(STATUS_FIELD, QUEUED, MEMBER_ID_FIELD, String.valueOf(memberId)));
+            ticketMap.expire(Duration.ofMinutes(ticketTtlMinutes));
+
+            kafkaTemplate.send(FLASH_SALE_ORDER_TOPIC, String.valueOf(memberId), new FlashSaleOrderEvent(ticket, memberId, flashSaleRequestDto))
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("주문 접수 실패 - ticket: {}, {}", ticket, ex.getMessage());
+                            failOrder(ticket, flashSaleRequestDto);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // 접수 번호를 반환하지 못하므로 주문이 저장되지 않음 -> 감소시킨 재고 롤백
+            log.error("주문 접수 실패 - ticket: {}, {}", ticket, e.getMessage());
+            rollbackStock(ticket, flashSaleRequestDto);
+            throw e;
+        }
+
+        return new FlashSaleTicketResponseDto(ticket, QUEUED, null);
+    }
+
+    /**
+     * 주문 처리 상태 조회
+     *
+     * 주문이 저장되기 전에는 QUEUED, 저장된 후에는 해당 주문의 현재 상태(OrderStatusEnum)를 반환한다.
+     *
+     * @param id 조회를 요청한 회원의 ID
+     * @param ticket 접수 번호
+     * @return 접수 번호, 주문 처리 상태, 주문 ID
+     * @throws CustomException 접수 내역이 없거나 다른 회원의 접수 번호인 경우 ORDER_TICKET_NOT_FOUND 예외 발생
+     */
+    public FlashSaleTicketResponseDto getOrderStatus(String id, String ticket) {
+        Map<String, String> ticketInfo = getTicket(ticket).readAllMap();
+        if (ticketInfo.isEmpty() || !id.equals(ticketInfo.get(MEMBER_ID_FIELD))) {
+            throw new CustomException(ErrorCode.ORDER_TICKET_NOT_FOUND);
+        }
+
+        String orderId = ticketInfo.get(ORDER_ID_FIELD);
+        if (orderId == null) {
+            return new FlashSaleTicketResponseDto(ticket, ticketInfo.get(STATUS_FIELD), null);
+        }
+
+        Order order = orderRepository.findById(Long.parseLong(orderId))
+                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+        return new FlashSaleTicketResponseDto(ticket, order.getStatus().name(), order.getOrderId());
+    }
+
+    /**
+     * 접수된 주문 요청 일괄 저장
+     *
+     * 한 번에 수신한 주문 요청들을 하나의 트랜잭션으로 저장한다. (결제 요청 & 배송 정보 저장 이벤트는 Outbox에 함께 저장)
+     * 일괄 저장에 실패하면 주문 요청별로 다시 저장하고, 그래도 실패한 주문은 재고를 롤백한다.
+     * 같은 요청이 다시 전달되어도(offset 커밋 전 장애, DLT 재처리 등) 주문은 접수 번호당 한 번만 저장되며,
+     * 이미 실패 처리(재고 롤백)된 접수는 다시 저장하지 않는다.
+     * 접수 상태(주문 ID)는 주문 저장 트랜잭션이 커밋된 후에 기록한다.
+     *
+     * @param events 주문 접수 이벤트 목록
+     * @param timestamps 각 이벤트의 전송 시점
+     */
+    @KafkaListener(topics = FLASH_SALE_ORDER_TOPIC, groupId = "flash-sale-order-group",
+            containerFactory = "flashSaleOrderListenerContainerFactory")
+    public void handleOrderEvents(List<FlashSaleOrderEvent> events,
+                                  @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        long startNanos = System.nanoTime();
+
+        // 이미 실패 처리된 접수 제외
+        Set<String> failedTickets = findFailedTickets(events);
+        List<FlashSaleOrderEvent> pendingEvents = events.stream()
+                .filter(event -> !failedTickets.contains(event.ticket()))
+                .collect(Collectors.toList());
+
+        List<Long> orderIds;
+        try {
+            orderIds = flashSaleService.saveOrders(pendingEvents);
+        } catch (Exception e) {
+            log.error("주문 일괄 저장 실패 - {}건, 개별 저장 재시도: {}", pendingEvents.size(), e.getMessage());
+            orderIds = saveOrdersIndividually(pendingEvents);
+        }
+
+        for (int i = 0; i < pendingEvents.size(); i++) {
+            FlashSaleOrderEvent event = pendingEvents.get(i);
+            Long orderId = orderIds.get(i);
+
+            if (orderId == null) {
+                failOrder(event.ticket(), event.flashSaleRequest());
+                continue;
+            }
+
+            getTicket(event.ticket()).fastPut(ORDER_ID_FIELD, String.valueOf(orderId));
+        }
+
+        batchListenerMetrics.record(FLASH_SALE_ORDER_TOPIC, startNanos, timestamps);
+    }
+
+    /* 주문 요청별 저장 (실패한 주문은 null) */
+    private List<Long> saveOrdersIndividually(List<FlashSaleOrderEvent> events) {
+        List<Long> orderIds = new ArrayList<>();
+        for (FlashSaleOrderEvent event : events) {
+            try {
+                orderIds.add(flashSaleService.saveOrders(List.of(event)).get(0));
+            } catch (Exception e) {
+                log.error("주문 저장 실패 - ticket: {}, {}", event.ticket(), e.getMessage());
+                orderIds.add(null);
+            }
+        }
+        return orderIds;
+    }
+
+    /* 접수 상태가 ORDER_FAILED인 접수 번호 조회 (한 번의 Batch 요청) */
+    private Set<String> findFailedTickets(List<FlashSaleOrderEvent> events) {
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<String>> statuses = events.stream()
+                .map(event -> batch.<String, String>getMap(TICKET_KEY_PREFIX + event.ticket(), StringCodec.INSTANCE)
+                        .getAsync(STATUS_FIELD))
+                .collect(Collectors.toList());
+        batch.execute();
+
+        Set<String> failedTickets = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (OrderStatusEnum.ORDER_FAILED.name().equals(statuses.get(i).toCompletableFuture().join())) {
+                failedTickets.add(events.get(i).ticket());
+            }
+        }
+        return failedTickets;
+    }
+
+    /* 주문 실패 처리 - 재고 롤백 & 접수 상태 변경 */
+    private void failOrder(String ticket, FlashSaleRequestDto flashSaleRequestDto) {
+        rollbackStock(ticket, flashSaleRequestDto);
+        getTicket(ticket).fastPut(STATUS_FIELD, OrderStatusEnum.ORDER_FAILED.name());
+    }
+
+    /* 재고 롤백 (실패하면 로그만 남김) */
+    private void rollbackStock(String ticket, FlashSaleRequestDto flashSaleRequestDto) {
+        try {
+            flashSaleService.rollbackStock(flashSaleRequestDto.getOrderProduct());
+        } catch (Exception e) {
+            log.error("재고 롤백 실패 - ticket: {}, {}", ticket, e.getMessage());
+        }
+    }
+
+    private RMap<String, String> getTicket(String ticket) {
+        return redissonClient.getMap(TICKET_KEY_PREFIX + ticket, StringCodec.INSTANCE);
+    }
+}
@@ -1,10 +1,13 @@
 package com.project.orderservice.service;
 
+import com.project.orderservice.aop.DistributedLockExecutor;
 import com.project.orderservice.dto.FlashSaleRequestDto;
 import com.project.orderservice.dto.OrderProductRequestDto;
 import com.project.orderservice.dto.OrderResponseDto;
 import com.project.orderservice.dto.PaymentResponseDto;
+import com.project.orderservice.dto.StockRequestDto;
 import com.project.orderservice.entity.*;
+import com.project.orderservice.event.FlashSaleOrderEvent;
 import com.project.orderservice.event.PaymentRequestEvent;
 import com.project.orderservice.event.PaymentResponseEvent;
 import com.project.orderservice.event.ShippingRequestEvent;
@@ -17,15 +20,22 @@ import com.project.orderservice.repository.OrderRepository;
 import com.project.orderservice.repository.ShippingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,19 +45,29 @@ public class FlashSaleService {
     private static final String PAYMENT_REQUEST_TOPIC = "payment-request-topic";
     private static final String PAYMENT_RESPONSE_TOPIC = "payment-response-topic";
     private static final String SHIPPING_TOPIC = "shipping-topic";
+    private static final String LOCK_KEY_PREFIX = "order_lock_product: ";
 
     private final OrderRepository orderRepository;
     private final OrderProductRepository orderProductRepository;
     private final ShippingRepository shippingRepository;
     private final ProductOrderFlowServiceClient productOrderFlowServiceClient;
-    private final RedissonClient redissonClient;
+    private final DistributedLockExecutor distributedLockExecutor;
     private final FeignErrorDecoder feignErrorDecoder;
+    private final SoldOutProductCache soldOutProductCache;
+    private final BatchListenerMetrics batchListenerMetrics;
+    private final BatchTransactionExecutor batchTransactionExecutor;
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxService outboxService;
+    private final OrderSummaryCache orderSummaryCache;
+
+    // 상품 서비스의 재고 처리가 원자적(Lua Script)이므로 분산 락은 선택적으로 사용
+    @Value("${order.stock-lock.enabled:false}")
+    private boolean stockLockEnabled;
 
     /**
      * 주문 가능 여부 확인
      *
+     * 0. 품절 상품이면 상품 서비스를 호출하지 않고 바로 거절
      * 1. 해당 상품이 현재 구매 가능한 상품인지 확인
      * 2. 해당 상품의 재고가 구매하려는 수량 이상인지 확인
      *
@@ -62,6 +82,10 @@ public class FlashSaleService {
     @Transactional
     public boolean requestOrder(FlashSaleRequestDto flashSaleRequestDto) {
         OrderProductRequestDto orderProduct = flashSaleRequestDto.getOrderProduct();
+        if (soldOutProductCache.isSoldOut(orderProduct.getProductId())) {
+            throw new CustomException(ErrorCode.STOCK_INSUFFICIENT);
+        }
+
         boolean isAvailable = productOrderFlowServiceClient.checkProductForOrder(    // 구매 가능 시간 & 재고 확인
                 orderProduct.getProductId(),
                 orderProduct.getQuantity());
@@ -92,73 +116,189 @@ public class FlashSaleService {
         Order savedOrder = null;
         PaymentResponseDto savedPayment = null;
 
-        OrderProductRequestDto orderProduct = flashSaleRequestDto.getOrderProduct();
         // 1. 재고 수량 감소
-        String lockKey = "order_lock_product: " + orderProduct.getProductId();
-        RLock lock = redissonClient.getLock(lockKey);
-
-        lock.lock();
-
-        try {
-            productOrderFlowServiceClient.reduceStock(orderProduct.getProductId(), orderProduct.getQuantity());
-        } finally {
-            lock.unlock();
-        }
+        reduceStock(flashSaleRequestDto.getOrderProduct());
 
         // 2. 주문 정보 저장
         savedOrder = saveOrder(memberId, flashSaleRequestDto);
 
+        // 3. 결제 요청 & 배송 정보 저장 event send
+        sendOrderEvents(savedOrder, flashSaleRequestDto);
+        orderSummaryCache.ordersCreated(List.of(savedOrder));
+
+        // 트랜잭션 완료
+        return new OrderResponseDto(savedOrder);
+    }
+
+    /**
+     * 재고 수량 감소
+     *
+     * @param orderProduct 재고를 감소시킬 상품
+     * @throws CustomException 재고가 부족할 경우 STOCK_INSUFFICIENT 예외 발생
+     */
+    public void reduceStock(OrderProductRequestDto orderProduct) {
+        executeWithStockLock(orderProduct.getProductId(), () ->
+                productOrderFlowServiceClient.reduceStock(orderProduct.getProductId(), orderProduct.getQuantity()));
+    }
+
+    /**
+     * 결제 요청 및 배송 정보 저장 이벤트 전송
+     *
+     * 주문 저장과 같은 트랜잭션에서 Outbox에 저장하고, Kafka 전송은 OutboxRelay가 처리한다.
+     *
+     * @param savedOrder 저장된 주문 정보
+     * @param flashSaleRequestDto 주문 요청에 필요한 정보 (상품, 배송 정보)
+     */
+    public void sendOrderEvents(Order savedOrder, FlashSaleRequestDto flashSaleRequestDto) {
+        OrderProductRequestDto orderProduct = flashSaleRequestDto.getOrderProduct();
+        String key = String.valueOf(savedOrder.getOrderId());
+
         // 결제 요청 event send
-        kafkaTemplate.send(PAYMENT_REQUEST_TOPIC, new PaymentRequestEvent(savedOrder, orderProduct));
+        outboxService.save(PAYMENT_REQUEST_TOPIC, key, new PaymentRequestEvent(
+                savedOrder.getOrderId(),
+                savedOrder.getMemberId(),
+                orderProduct.getProductId(),
+                orderProduct.getQuantity()
+        ));
 
         // 배송 정보 저장 event send
         ShippingRequestEvent shippingEvent = new ShippingRequestEvent(
+                savedOrder.getOrderId(),
                 flashSaleRequestDto.getShipping().getAddress(),
                 flashSaleRequestDto.getShipping().getAddressDetail(),
-                flashSaleRequestDto.getShipping().getPhone(),
-                savedOrder
+                flashSaleRequestDto.getShipping().getPhone()
         );
-        kafkaTemplate.send(SHIPPING_TOPIC, shippingEvent);
-
-        // 트랜잭션 완료
-        return new OrderResponseDto(savedOrder);
+        outboxService.save(SHIPPING_TOPIC, key, shippingEvent);
     }
 
     /**
-     * 결제 완료 이벤트 수신
+     * 결제 완료 이벤트 일괄 수신
      *
-     * Kafka를 통해 결제 완료 이벤트를 수신하고, 결제 성공 여부에 따라 주문 상태를 업데이트한다.
+     * Kafka를 통해 결제 완료 이벤트를 한 번에 여러 건(최대 order.kafka.batch.max-poll-records건) 수신하고,
+     * 결제 성공 여부에 따라 주문 상태를 업데이트한다.
      * 결제가 성공하면 'PAYMENT_COMPLETED', 실패하면 'PAYMENT_FAILED'로 설정한다.
-     * 
-     * @param event 결제 완료 정보
+     * 주문을 조회하지 않고 상태별로 한 번의 UPDATE(WHERE id IN ...)로 변경하며, 결제에 실패한 주문의 재고는 한 번에 롤백한다.
+     *
+     * 이벤트는 중복 전송될 수 있으므로 결제 대기(PAYMENT_PENDING) 상태인 주문만 변경하고,
+     * 재고는 이번 처리에서 실제로 PAYMENT_FAILED로 변경된 주문만, 상태 변경이 커밋된 후에 롤백한다.
+     * (롤백된 상태 변경의 재고를 되돌리거나, 상품 서비스 응답을 기다리는 동안 트랜잭션을 붙잡아 두지 않는다.)
+     * 일괄 처리에 실패하면 상태 변경을 롤백하고 결제 결과별로 다시 처리하며, 실패한 결제 결과만 재시도 & DLT로 전송한다.
+     *
+     * @param events 결제 완료 정보 목록
+     * @param timestamps 각 이벤트의 전송 시점
      */
-    @KafkaListener(topics = PAYMENT_RESPONSE_TOPIC)
-    public void handlePaymentResultEvent(PaymentResponseEvent event) {
+    @KafkaListener(topics = PAYMENT_RESPONSE_TOPIC, containerFactory = "paymentResponseListenerContainerFactory")
+    public void handlePaymentResultEvents(List<PaymentResponseEvent> events,
+                                          @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        long startNanos = System.nanoTime();
+
+        batchTransactionExecutor.execute(PAYMENT_RESPONSE_TOPIC, events, this::savePaymentResults);
+
+        batchListenerMetrics.record(PAYMENT_RESPONSE_TOPIC, startNanos, timestamps);
+    }
 
-        try {
-            if (event.order() == null) {
-                throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
+    /* 결제 결과에 따른 주문 상태 변경 & 결제 실패 주문의 재고 롤백 (하나의 트랜잭션) */
+    private void savePaymentResults(List<PaymentResponseEvent> events) {
+        // 같은 주문의 결제 결과는 한 번만 처리
+        Map<Long, PaymentResponseEvent> eventMap = new LinkedHashMap<>();
+        for (PaymentResponseEvent event : events) {
+            if (event.orderId() == null) {
+                log.error("결제 결과 처리 중 오류 발생: {}", ErrorCode.ORDER_NOT_FOUND.getMessage());
+                continue;
             }
+            eventMap.putIfAbsent(event.orderId(), event);
+        }
 
-            // order status update
-            Order paidOrder = event.order();
+        List<Long> completedOrderIds = new ArrayList<>();
+        List<PaymentResponseEvent> failedEvents = new ArrayList<>();
+        for (PaymentResponseEvent event : eventMap.values()) {
             if (event.status() == PaymentStatusEnum.PAYMENT_COMPLETED) {
-                // 결제 성공
-                log.info("결제 성공");
-                paidOrder.setStatus(OrderStatusEnum.PAYMENT_COMPLETED);
-                orderRepository.save(paidOrder);
-
+                completedOrderIds.add(event.orderId());     // 결제 성공
             } else {
-                // 결제 실패
-                log.info("결제 실패");
-                paidOrder.setStatus(OrderStatusEnum.PAYMENT_FAILED);
-                orderRepository.save(paidOrder);
+                failedEvents.add(event);                    // 결제 실패
+            }
+        }
+
+        // order status update (PAYMENT_PENDING인 주문만)
+        LocalDateTime now = LocalDateTime.now();
+        int completedCount = completedOrderIds.isEmpty() ? 0 : orderRepository.updateStatusByOrderIds(
+                completedOrderIds, OrderStatusEnum.PAYMENT_PENDING, OrderStatusEnum.PAYMENT_COMPLETED, now);
+
+        // 주문 요약 캐시 반영 - 모두 변경되었으면 증분 갱신, 일부 주문이 중복 이벤트였다면 해당 회원의 캐시 삭제
+        List<OrderSummaryCache.Transition> transitions = new ArrayList<>();
+        if (completedCount == completedOrderIds.size()) {
+            completedOrderIds.forEach(orderId -> transitions.add(new OrderSummaryCache.Transition(
+                    eventMap.get(orderId).memberId(), orderId, OrderStatusEnum.PAYMENT_PENDING, OrderStatusEnum.PAYMENT_COMPLETED)));
+        } else {
+            orderSummaryCache.evict(completedOrderIds.stream()
+                    .map(orderId -> eventMap.get(orderId).memberId())
+                    .collect(Collectors.toSet()));
+        }
 
-                rollbackStock(event.orderProductRequestDto());
+        // 결제 실패 - 상태가 실제로 변경된 주문만 재고 롤백 대상
+        List<StockRequestDto> failedOrderProducts = new ArrayList<>();
+        for (PaymentResponseEvent event : failedEvents) {
+            int updated = orderRepository.updateStatusByOrderIds(
+                    List.of(event.orderId()), OrderStatusEnum.PAYMENT_PENDING, OrderStatusEnum.PAYMENT_FAILED, now);
+            if (updated > 0) {
+                failedOrderProducts.add(new StockRequestDto(event.productId(), event.quantity()));
+                transitions.add(new OrderSummaryCache.Transition(
+                        event.memberId(), event.orderId(), OrderStatusEnum.PAYMENT_PENDING, OrderStatusEnum.PAYMENT_FAILED));
             }
-        } catch (Exception e) {
-            log.error("결제 결과 처리 중 오류 발생: {}", e.getMessage());
         }
+        orderSummaryCache.statusChanged(transitions);
+
+        int duplicateCount = events.size() - completedCount - failedOrderProducts.size();
+        log.info("결제 결과 저장 완료 - 결제 성공 {}건, 결제 실패 {}건, 중복/처리 완료 {}건",
+                completedCount, failedOrderProducts.size(), duplicateCount);
+
+        rollbackStocksAfterCommit(failedOrderProducts);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 재고 롤백
+     *
+     * 상태 변경은 이미 커밋되어 이벤트를 다시 처리해도 재고를 롤백하지 않으므로, 롤백에 실패한 상품은 로그로 남긴다.
+     *
+     * @param stockRequestList 재고를 롤백해야 하는 상품 목록
+     */
+    private void rollbackStocksAfterCommit(List<StockRequestDto> stockRequestList) {
+        if (stockRequestList.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    rollbackStocks(stockRequestList);
+                } catch (Exception e) {
+                    stockRequestList.forEach(stockRequest -> log.error("결제 실패 주문의 재고 롤백 실패 - productId: {}, quantity: {}, {}",
+                            stockRequest.getProductId(), stockRequest.getQuantity(), e.getMessage()));
+                }
+            }
+        });
+    }
+
+    /**
+     * 여러 상품의 재고 롤백 처리
+     *
+     * 분산 락을 사용하지 않는 경우 한 번의 요청으로 롤백하고, 사용하는 경우 상품별로 락을 획득하여 롤백한다.
+     *
+     * @param stockRequestList 재고를 롤백해야 하는 상품 목록
+     */
+    private void rollbackStocks(List<StockRequestDto> stockRequestList) {
+        if (stockRequestList.isEmpty()) {
+            return;
+        }
+
+        if (stockLockEnabled) {
+            stockRequestList.forEach(stockRequest -> executeWithStockLock(stockRequest.getProductId(), () ->
+                    productOrderFlowServiceClient.rollbackStock(stockRequest.getProductId(), stockRequest.getQuantity())));
+        } else {
+            productOrderFlowServiceClient.rollbackStockBatch(stockRequestList);
+        }
+        stockRequestList.forEach(stockRequest -> soldOutProductCache.markAvailable(stockRequest.getProductId()));
     }
 
     /**
@@ -203,6 +343,90 @@ public class FlashSaleService {
         return savedOrder;
     }
 
+    /**
+     * 주문 정보 일괄 저장
+     *
+     * 주문 접수 큐(flash-sale-order-topic)에서 한 번에 수신한 주문 요청들을 하나의 트랜잭션으로 저장한다.
+     * 결제 요청 & 배송 정보 저장 이벤트도 같은 트랜잭션에서 Outbox에 저장한다.
+     * 같은 접수 번호의 주문이 이미 저장되어 있으면(재전달) 다시 저장하지 않고 저장된 주문의 ID를 반환한다.
+     * (동시에 저장되는 경우는 접수 번호의 unique 제약으로 막는다.)
+     *
+     * @param events 주문 접수 이벤트 목록
+     * @return 주문 ID 목록 (이벤트 순서와 같음)
+     */
+    @Transactional
+    public List<Long> saveOrders(List<FlashSaleOrderEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 이미 저장된 접수 번호 조회
+        Map<String, Long> orderIdsByTicket = new HashMap<>();
+        for (Object[] row : orderRepository.findOrderIdsByTicketIn(
+                events.stream().map(FlashSaleOrderEvent::ticket).collect(Collectors.toSet()))) {
+            orderIdsByTicket.put((String) row[0], (Long) row[1]);
+        }
+
+        // 2. 저장되지 않은 접수만 저장 (같은 배치 안의 중복 접수도 한 번만)
+        Map<String, FlashSaleOrderEvent> newEvents = new LinkedHashMap<>();
+        for (FlashSaleOrderEvent event : events) {
+            if (!orderIdsByTicket.containsKey(event.ticket())) {
+                newEvents.putIfAbsent(event.ticket(), event);
+            }
+        }
+        if (newEvents.size() < events.size()) {
+            log.info("이미 저장된 주문 접수 제외 - {}건", events.size() - newEvents.size());
+        }
+
+        List<Order> savedOrders = saveNewOrders(new ArrayList<>(newEvents.values()));
+        savedOrders.forEach(order -> orderIdsByTicket.put(order.getTicket(), order.getOrderId()));
+
+        return events.stream()
+                .map(event -> orderIdsByTicket.get(event.ticket()))
+                .collect(Collectors.toList());
+    }
+
+    /* 주문 & 주문 상품 저장, 결제 요청 & 배송 정보 저장 이벤트 Outbox 저장 */
+    private List<Order> saveNewOrders(List<FlashSaleOrderEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (FlashSaleOrderEvent event : events) {
+            OrderProductRequestDto orderProductDto = event.flashSaleRequest().getOrderProduct();
+
+            Order order = new Order();
+            order.setTicket(event.ticket());
+            order.setMemberId(event.memberId());
+            order.setTotalQuantity(orderProductDto.getQuantity());
+            order.setTotalPrice(orderProductDto.getUnitPrice() * orderProductDto.getQuantity());
+            order.setStatus(OrderStatusEnum.PAYMENT_PENDING);
+            orders.add(order);
+        }
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+
+        List<OrderProduct> orderProductList = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            OrderProductRequestDto orderProductDto = events.get(i).flashSaleRequest().getOrderProduct();
+            orderProductList.add(new OrderProduct(
+                    orderProductDto.getUnitPrice(),
+                    orderProductDto.getQuantity(),
+                    savedOrders.get(i),
+                    orderProductDto.getProductId()
+            ));
+        }
+        orderProductRepository.saveAll(orderProductList);
+
+        for (int i = 0; i < events.size(); i++) {
+            sendOrderEvents(savedOrders.get(i), events.get(i).flashSaleRequest());
+        }
+        orderSummaryCache.ordersCreated(savedOrders);
+        log.info("주문 정보 일괄 저장 완료 - {}건", savedOrders.size());
+
+        return savedOrders;
+    }
+
     /**
      * 재고 롤백 처리
      *
@@ -212,34 +436,69 @@ public class FlashSaleService {
      */
     @Transactional
     public void rollbackStock(OrderProductRequestDto orderProductDto) {
-        String lockKey = "order_lock_product: " + orderProductDto.getProductId();
-        RLock lock = redissonClient.getLock(lockKey);
-
-        lock.lock();
+        executeWithStockLock(orderProductDto.getProductId(), () ->
+                productOrderFlowServiceClient.rollbackStock(orderProductDto.getProductId(), orderProductDto.getQuantity()));
+        soldOutProductCache.markAvailable(orderProductDto.getProductId());
+    }
 
-        try {
-            productOrderFlowServiceClient.rollbackStock(orderProductDto.getProductId(), orderProductDto.getQuantity());
-        } finally {
-            lock.unlock();
+    /**
+     * 재고 처리 요청
+     *
+     * order.stock-lock.enabled 설정이 켜져 있으면 상품별 분산 락을 획득한 뒤 요청하고,
+     * 꺼져 있으면 상품 서비스의 원자적 재고 처리에 맡기고 락 없이 바로 요청한다.
+     * 대기 시간 안에 락을 획득하지 못하면 ORDER_LOCK_TIMEOUT 예외로 바로 실패한다.
+     *
+     * @param productId 재고를 처리할 상품의 ID
+     * @param stockRequest 재고 처리 요청 (Feign 호출)
+     */
+    private void executeWithStockLock(Long productId, Runnable stockRequest) {
+        if (!stockLockEnabled) {
+            stockRequest.run();
+            return;
         }
+
+        distributedLockExecutor.executeWithLock(List.of(LOCK_KEY_PREFIX + productId), stockRequest);
     }
 
     /**
-     * 배송 정보 저장 이벤트 수신
+     * 배송 정보 저장 이벤트 일괄 수신
      *
-     * Kafka를 통해 배송 정보 저장 이벤트를 수신하고, 해당 정보를 데이터베이스에 저장한다.
+     * Kafka를 통해 배송 정보 저장 이벤트를 한 번에 여러 건 수신하고, 한 번의 saveAll로 데이터베이스에 저장한다.
+     * Outbox는 이벤트를 한 번 이상 전송하므로, 같은 묶음 내 중복 & 이미 배송 정보가 저장된 주문은 제외한다.
+     * 일괄 저장에 실패하면 배송 정보별로 다시 저장하고, 실패한 배송 정보만 재시도 & DLT로 전송한다.
      *
-     * @param event 배송 정보
+     * @param events 배송 정보 목록
+     * @param timestamps 각 이벤트의 전송 시점
      */
-    @KafkaListener(topics = SHIPPING_TOPIC)
-    public void saveShipping(ShippingRequestEvent event) {
-        Shipping shipping = new Shipping(
-                event.address(),
-                event.addressDetail(),
-                event.phone(),
-                event.order()
-        );
-        shippingRepository.save(shipping);
-        log.info("배송 정보 저장 완료");
+    @KafkaListener(topics = SHIPPING_TOPIC, containerFactory = "shippingListenerContainerFactory")
+    public void saveShippings(List<ShippingRequestEvent> events,
+                              @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        long startNanos = System.nanoTime();
+
+        batchTransactionExecutor.execute(SHIPPING_TOPIC, events, this::saveNewShippings);
+
+        batchListenerMetrics.record(SHIPPING_TOPIC, startNanos, timestamps);
+    }
+
+    /* 중복을 제외한 배송 정보 저장 (하나의 트랜잭션) */
+    private void saveNewShippings(List<ShippingRequestEvent> events) {
+        // 중복 이벤트 제외 (같은 묶음 내 중복 & 이미 배송 정보가 저장된 주문)
+        Map<Long, ShippingRequestEvent> eventMap = new LinkedHashMap<>();
+        events.forEach(event -> eventMap.putIfAbsent(event.orderId(), event));
+        shippingRepository.findOrderIdsByOrderIdIn(eventMap.keySet()).forEach(eventMap::remove);
+        if (eventMap.size() < events.size()) {
+            log.info("중복 배송 정보 제외 - {}건", events.size() - eventMap.size());
+        }
+
+        List<Shipping> shippings = eventMap.values().stream()
+                .map(event -> new Shipping(
+                        event.address(),
+                        event.addressDetail(),
+                        event.phone(),
+                        orderRepository.getReferenceById(event.orderId())    // 주문 조회 없이 ID로 참조
+                ))
+                .collect(Collectors.toList());
+        shippingRepository.saveAll(shippings);
+        log.info("배송 정보 저장 완료 - {}건", shippings.size());
     }
 }
@@ -1,5 +1,6 @@
 package com.project.orderservice.service;
 
+import com.project.orderservice.aop.DistributedLockExecutor;
 import com.project.orderservice.feign.CartServiceClient;
 import com.project.orderservice.feign.ProductOrderFlowServiceClient;
 import com.project.orderservice.dto.*;
@@ -12,14 +13,17 @@ import com.project.orderservice.repository.OrderRepository;
 import com.project.orderservice.repository.ShippingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -34,8 +38,19 @@ public class OrderService {
     private final PaymentService paymentService;
     private final ProductOrderFlowServiceClient productOrderFlowServiceClient;
     private final CartServiceClient cartServiceClient;
-    private final RedissonClient redissonClient;
+    private final DistributedLockExecutor distributedLockExecutor;
     private final FeignErrorDecoder feignErrorDecoder;
+    private final OrderSummaryCache orderSummaryCache;
+
+    private static final String LOCK_KEY_PREFIX = "order_lock_product: ";
+    private static final String CURSOR_SEPARATOR = "_";   // 주문 내역 cursor: {주문 일시}_{주문 ID}
+
+    // 상품 서비스의 재고 처리가 원자적(Lua Script)이므로 분산 락은 선택적으로 사용
+    @Value("${order.stock-lock.enabled:false}")
+    private boolean stockLockEnabled;
+
+    @Value("${order.history.max-page-size:100}")
+    private int maxHistoryPageSize;
 
     /**
      * 주문 가능 여부 확인
@@ -85,19 +100,10 @@ public class OrderService {
         PaymentResponseDto savedPayment = null;
 
         try {
-            for (OrderProductRequestDto orderProduct : orderRequestDto.getOrderProducts()) {
-                // 1. 재고 수량 감소
-                String lockKey = "order_lock_product: " + orderProduct.getProductId();
-                RLock lock = redissonClient.getLock(lockKey);
-
-                lock.lock();
-
-                try {
-                    productOrderFlowServiceClient.reduceStock(orderProduct.getProductId(), orderProduct.getQuantity());
-                } finally {
-                    lock.unlock();
-                }
-            }
+            // 1. 재고 수량 감소 (주문 상품 전체를 한 번에 요청)
+            List<StockRequestDto> stockRequestList = toStockRequestList(orderRequestDto.getOrderProducts());
+            executeWithStockLock(stockRequestList, () ->
+                    productOrderFlowServiceClient.reduceStockBatch(stockRequestList));
 
             // 2. 주문 정보 저장
             savedOrder = saveOrder(id, orderRequestDto);
@@ -119,6 +125,7 @@ public class OrderService {
 
             // 4-3. 결제 성패여부 저장
             orderRepository.save(savedOrder);
+            orderSummaryCache.ordersCreated(List.of(savedOrder));
 
             if (orderRequestDto.isFromCart()) {
                 // 장바구니에 담긴 상품 삭제
@@ -189,18 +196,38 @@ public class OrderService {
      */
     @Transactional
     public void rollbackStock(List<OrderProductRequestDto> orderProductRequestList) {
-        for (OrderProductRequestDto orderProduct : orderProductRequestList) {
-            String lockKey = "order_lock_product: " + orderProduct.getProductId();
-            RLock lock = redissonClient.getLock(lockKey);
+        List<StockRequestDto> stockRequestList = toStockRequestList(orderProductRequestList);
+        executeWithStockLock(stockRequestList, () ->
+                productOrderFlowServiceClient.rollbackStockBatch(stockRequestList));
+    }
 
-            lock.lock();
+    /* 주문 상품 목록 -> 재고 처리 요청 목록 */
+    private List<StockRequestDto> toStockRequestList(List<OrderProductRequestDto> orderProductRequestList) {
+        return orderProductRequestList.stream()
+                .map(StockRequestDto::new)
+                .collect(Collectors.toList());
+    }
 
-            try {
-                productOrderFlowServiceClient.rollbackStock(orderProduct.getProductId(), orderProduct.getQuantity());
-            } finally {
-                lock.unlock();
-            }
+    /**
+     * 재고 처리 요청
+     *
+     * order.stock-lock.enabled 설정이 켜져 있으면 주문 상품 전체에 대한 분산 락을 획득한 뒤 요청하고,
+     * 꺼져 있으면 상품 서비스의 원자적 재고 처리에 맡기고 락 없이 바로 요청한다.
+     * 대기 시간 안에 락을 획득하지 못하면 ORDER_LOCK_TIMEOUT 예외로 바로 실패한다.
+     *
+     * @param stockRequestList 재고를 처리할 상품 목록
+     * @param stockRequest 재고 처리 요청 (Feign 호출)
+     */
+    private void executeWithStockLock(List<StockRequestDto> stockRequestList, Runnable stockRequest) {
+        if (!stockLockEnabled) {
+            stockRequest.run();
+            return;
         }
+
+        List<String> keys = stockRequestList.stream()
+                .map(stockRequestDto -> LOCK_KEY_PREFIX + stockRequestDto.getProductId())
+                .collect(Collectors.toList());
+        distributedLockExecutor.executeWithLock(keys, stockRequest);
     }
 
     /**
@@ -238,6 +265,74 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자별 주문 내역 페이지 조회
+     *
+     * (주문 일시, 주문 ID)를 cursor로 사용하여 최신순으로 size건씩 조회한다. (keyset pagination)
+     * 페이지가 뒤로 갈수록 느려지는 OFFSET 방식과 달리 (user_id, created_at, id) 인덱스에서 cursor 위치부터 바로 읽는다.
+     * 주문 상품은 페이지에 포함된 주문들에 대해 한 번의 쿼리(IN)로 조회한다.
+     *
+     * @param id 주문을 조회할 회원의 ID
+     * @param cursor 이전 페이지의 nextCursor ({주문 일시}_{주문 ID}, 첫 페이지는 null)
+     * @param size 조회할 주문 수 (최대 order.history.max-page-size)
+     * @return 주문 내역과 다음 페이지 cursor
+     * @throws CustomException cursor 형식이 올바르지 않으면 INVALID_ORDER_HISTORY_CURSOR 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryResponseDto getOrderHistory(String id, String cursor, int size) {
+        Long memberId = Long.parseLong(id);
+        int pageSize = Math.max(1, Math.min(size, maxHistoryPageSize));
+
+        // 다음 페이지 존재 여부를 확인하기 위해 1건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<OrderResponseDto> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findOrderHistory(memberId, pageRequest);
+        } else {
+            int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                orders = orderRepository.findOrderHistoryBefore(memberId,
+                        LocalDateTime.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)),
+                        pageRequest);
+            } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+                throw new CustomException(ErrorCode.INVALID_ORDER_HISTORY_CURSOR);
+            }
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
+
+        if (!orders.isEmpty()) {
+            Map<Long, List<OrderProductResponseDto>> orderProductMap = orderProductRepository
+                    .findAllByOrderIds(orders.stream().map(OrderResponseDto::getOrderId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.groupingBy(OrderProductResponseDto::getOrderId));
+            orders.forEach(order -> order.setOrderProducts(orderProductMap.getOrDefault(order.getOrderId(), List.of())));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderResponseDto lastOrder = orders.get(orders.size() - 1);
+            nextCursor = lastOrder.getCreatedAt() + CURSOR_SEPARATOR + lastOrder.getOrderId();
+        }
+        return new OrderHistoryResponseDto(orders, nextCursor, hasNext);
+    }
+
+    /**
+     * 사용자별 주문 요약 조회
+     *
+     * 상태별 주문 수와 최근 주문 목록을 Redis 캐시(OrderSummaryCache)에서 조회한다.
+     *
+     * @param id 주문을 조회할 회원의 ID
+     * @return 상태별 주문 수 & 최근 주문 목록
+     */
+    public OrderSummaryResponseDto getOrderSummary(String id) {
+        return orderSummaryCache.getSummary(Long.parseLong(id));
+    }
+
     /**
      * 주문 상세 조회
      *
@@ -259,6 +354,7 @@ public class OrderService {
      *
      * 결제 대기중(PAYMENT_PENDING), 결제 완료(PAYMENT_COMPLETED) 주문만 취소할 수 있으며, 승인 절차 없이 즉시 취소 처리함
      * 주문 취소 후 해당 주문에 대한 재고는 롤백한다.
+     * 조회한 상태인 경우에만 취소 상태로 변경하므로, 동시에 들어온 취소 요청이나 결제 실패 처리와 겹쳐도 재고는 한 번만 롤백된다.
      *
      * @param id 취소를 요청한 회원의 ID
      * @param orderId 취소하려는 주문의 ID
@@ -269,12 +365,19 @@ public class OrderService {
         Order order = orderRepository.findByOrderIdAndMemberId(orderId, memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
 
-        if (order.getStatus() != OrderStatusEnum.PAYMENT_COMPLETED && order.getStatus() != OrderStatusEnum.PAYMENT_PENDING) {
+        OrderStatusEnum previousStatus = order.getStatus();
+        if (previousStatus != OrderStatusEnum.PAYMENT_COMPLETED && previousStatus != OrderStatusEnum.PAYMENT_PENDING) {
             throw new CustomException(ErrorCode.CANCELLATION_NOT_ALLOWED);
         }
 
-        order.setStatus(OrderStatusEnum.CANCELLED);
-        orderRepository.save(order);
+        // 조회 이후 상태가 변경되었으면(다른 취소 요청, 결제 결과 처리) 취소하지 않음
+        int updated = orderRepository.updateStatusByOrderIds(
+                List.of(orderId), previousStatus, OrderStatusEnum.CANCELLED, LocalDateTime.now());
+        if (updated != 1) {
+            throw new CustomException(ErrorCode.CANCELLATION_NOT_ALLOWED);
+        }
+        orderSummaryCache.statusChanged(List.of(new OrderSummaryCache.Transition(
+                memberId, orderId, previousStatus, OrderStatusEnum.CANCELLED)));
 
         // Order -> OrderProduct -> OrderProductRequestDto
         List<OrderProduct> orderProducts = orderProductRepository.findAllByOrderOrderId(orderId);
@@ -309,6 +412,8 @@ public class OrderService {
 
         order.setStatus(OrderStatusEnum.RETURN_REQUESTED);
         orderRepository.save(order);
+        orderSummaryCache.statusChanged(List.of(new OrderSummaryCache.Transition(
+                memberId, orderId, OrderStatusEnum.DELIVERED, OrderStatusEnum.RETURN_REQUESTED)));
 
         log.info("반품 신청 완료 - orderId: {}", orderId);
     }
@@ -333,6 +438,8 @@ public class OrderService {
 
         order.setStatus(OrderStatusEnum.RETURN_COMPLETED);
         orderRepository.save(order);
+        orderSummaryCache.statusChanged(List.of(new OrderSummaryCache.Transition(
+                order.getMemberId(), orderId, OrderStatusEnum.RETURN_REQUESTED, OrderStatusEnum.RETURN_COMPLETED)));
 
         // Order -> OrderProduct -> OrderProductRequestDto
         List<OrderProduct> orderProducts = orderProductRepository.findAllByOrderOrderId(orderId);
@@ -0,0 +1,261 @@
+package com.project.orderservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.orderservice.dto.OrderResponseDto;
+import com.project.orderservice.dto.OrderSummaryResponseDto;
+import com.project.orderservice.entity.Order;
+import com.project.orderservice.entity.OrderStatusEnum;
+import com.project.orderservice.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 회원별 주문 요약 캐시 (Redis Hash: order_summary: {memberId})
+ *
+ * 회원의 최근 주문(recent-size건)과 주문 상태별 건수를 하나의 Hash에 보관하여, 회원 정보 조회 시 한 번의 조회로 반환한다.
+ * - count:{status} : 상태별 주문 수
+ * - order:{orderId} : 최근 주문 정보 (JSON)
+ * - status:{orderId} : 최근 주문의 현재 상태
+ * - sort:{orderId} : 최근 주문의 정렬 key ({주문 일시}_{주문 ID}, 주문 ID는 발급 순서가 주문 순서와 다를 수 있음)
+ * 캐시가 없으면 DB에서 다시 생성하고, 이후 주문 생성 및 상태 변경 시 트랜잭션 커밋 후 Lua Script로 증분 갱신한다.
+ * 어떤 주문의 상태가 변경되었는지 알 수 없는 경우에는 캐시를 삭제하며, 오차가 쌓이지 않도록 일정 시간(ttl-minutes) 후 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryCache {
+
+    private static final String SUMMARY_KEY_PREFIX = "order_summary: ";
+    private static final String COUNT_FIELD_PREFIX = "count:";
+    private static final String ORDER_FIELD_PREFIX = "order:";
+    private static final String STATUS_FIELD_PREFIX = "status:";
+    private static final String SORT_FIELD_PREFIX = "sort:";
+    private static final DateTimeFormatter SORT_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS");
+
+    private final RedissonClient redissonClient;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.summary.recent-size:10}")
+    private int recentSize;
+
+    @Value("${order.summary.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private String updateScript;
+
+    /**
+     * 주문 상태 변경 정보
+     *
+     * @param memberId 주문한 회원의 ID
+     * @param orderId 주문 ID
+     * @param from 변경 전 주문 상태
+     * @param to 변경 후 주문 상태
+     */
+    public record Transition(Long memberId, Long orderId, OrderStatusEnum from, OrderStatusEnum to) {
+    }
+
+    @PostConstruct
+    public void loadScript() {
+        try {
+            updateScript = StreamUtils.copyToString(
+                    new ClassPathResource("scripts/order_summary_update.lua").getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 주문 요약 조회
+     *
+     * 캐시가 없으면 DB에서 상태별 주문 수와 최근 주문을 조회하여 캐시를 생성한다.
+     *
+     * @param memberId 조회할 회원의 ID
+     * @return 상태별 주문 수 & 최근 주문 목록 (최신순)
+     */
+    public OrderSummaryResponseDto getSummary(Long memberId) {
+        RMap<String, String> summaryMap = getSummaryMap(memberId);
+        Map<String, String> fields;
+        try {
+            fields = summaryMap.readAllMap();
+        } catch (Exception e) {
+            log.error("주문 요약 캐시 조회 중 오류 발생 - DB에서 조회: {}", e.getMessage());
+            return toSummary(loadSummary(memberId));
+        }
+
+        if (fields.isEmpty()) {
+            fields = loadSummary(memberId);
+            summaryMap.putAll(fields);
+            summaryMap.expire(Duration.ofMinutes(ttlMinutes));
+        }
+        return toSummary(fields);
+    }
+
+    /**
+     * 새 주문 반영 (트랜잭션 커밋 후)
+     *
+     * @param orders 저장된 주문 목록
+     */
+    public void ordersCreated(List<Order> orders) {
+        runAfterCommit(() -> {
+            RBatch batch = redissonClient.createBatch();
+            for (Order order : orders) {
+                batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, updateScript, RScript.ReturnType.INTEGER,
+                        List.<Object>of(SUMMARY_KEY_PREFIX + order.getMemberId()),
+                        String.valueOf(order.getOrderId()), "", order.getStatus().name(), toJson(order), String.valueOf(recentSize),
+                        sortKey(order.getCreatedAt(), order.getOrderId()));
+            }
+            batch.execute();
+        });
+    }
+
+    /**
+     * 주문 상태 변경 반영 (트랜잭션 커밋 후)
+     *
+     * @param transitions 상태가 실제로 변경된 주문 목록
+     */
+    public void statusChanged(List<Transition> transitions) {
+        runAfterCommit(() -> {
+            RBatch batch = redissonClient.createBatch();
+            for (Transition transition : transitions) {
+                batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, updateScript, RScript.ReturnType.INTEGER,
+                        List.<Object>of(SUMMARY_KEY_PREFIX + transition.memberId()),
+                        String.valueOf(transition.orderId()), transition.from().name(), transition.to().name(), "", String.valueOf(recentSize), "");
+            }
+            batch.execute();
+        });
+    }
+
+    /**
+     * 주문 요약 삭제 (트랜잭션 커밋 후)
+     *
+     * 변경된 주문을 정확히 알 수 없는 경우 사용하며, 다음 조회 시 DB에서 다시 생성한다.
+     *
+     * @param memberIds 주문 요약을 삭제할 회원의 ID 목록
+     */
+    public void evict(Collection<Long> memberIds) {
+        runAfterCommit(() -> {
+            RBatch batch = redissonClient.createBatch();
+            memberIds.forEach(memberId -> batch.getMap(SUMMARY_KEY_PREFIX + memberId, StringCodec.INSTANCE).deleteAsync());
+            batch.execute();
+        });
+    }
+
+    /* DB에서 주문 요약 생성 */
+    private Map<String, String> loadSummary(Long memberId) {
+        Map<String, String> fields = new HashMap<>();
+        for (OrderStatusEnum status : OrderStatusEnum.values()) {
+            fields.put(COUNT_FIELD_PREFIX + status.name(), "0");  // 주문이 없는 회원도 캐시가 생성되도록 모든 상태를 저장
+        }
+        for (Object[] row : orderRepository.countByStatus(memberId)) {
+            fields.put(COUNT_FIELD_PREFIX + ((OrderStatusEnum) row[0]).name(), String.valueOf(row[1]));
+        }
+
+        List<OrderResponseDto> recentOrders = orderRepository.findOrderHistory(memberId, PageRequest.of(0, recentSize));
+        for (OrderResponseDto order : recentOrders) {
+            fields.put(ORDER_FIELD_PREFIX + order.getOrderId(), toJson(order));
+            fields.put(STATUS_FIELD_PREFIX + order.getOrderId(), order.getStatus().name());
+            fields.put(SORT_FIELD_PREFIX + order.getOrderId(), sortKey(order.getCreatedAt(), order.getOrderId()));
+        }
+        return fields;
+    }
+
+    /* Hash -> 주문 요약 */
+    private OrderSummaryResponseDto toSummary(Map<String, String> fields) {
+        Map<OrderStatusEnum, Long> statusCounts = new EnumMap<>(OrderStatusEnum.class);
+        List<OrderResponseDto> recentOrders = new ArrayList<>();
+
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            String name = field.getKey();
+            if (name.startsWith(COUNT_FIELD_PREFIX)) {
+                statusCounts.put(OrderStatusEnum.valueOf(name.substring(COUNT_FIELD_PREFIX.length())), Long.parseLong(field.getValue()));
+            } else if (name.startsWith(ORDER_FIELD_PREFIX)) {
+                OrderResponseDto order = fromJson(field.getValue());
+                String status = fields.get(STATUS_FIELD_PREFIX + order.getOrderId());
+                if (status != null) {
+                    order.setStatus(OrderStatusEnum.valueOf(status));
+                }
+                recentOrders.add(order);
+            }
+        }
+        recentOrders.sort(Comparator.comparing(OrderResponseDto::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(OrderResponseDto::getOrderId)
+                .reversed());
+
+        return new OrderSummaryResponseDto(statusCounts, recentOrders);
+    }
+
+    /* 트랜잭션 안에서 호출되면 커밋 후 실행 (롤백된 변경은 반영하지 않음), 캐시 갱신 실패는 로그만 남김 */
+    private void runAfterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("주문 요약 캐시 갱신 중 오류 발생: {}", e.getMessage());
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeTask.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeTask.run();
+            }
+        });
+    }
+
+    /* 최근 주문 정렬 key - 문자열 비교가 (주문 일시, 주문 ID) 순서와 같도록 고정 길이로 변환 */
+    private String sortKey(LocalDateTime createdAt, Long orderId) {
+        String createdAtKey = createdAt == null ? "0".repeat(20) : createdAt.format(SORT_KEY_FORMAT);
+        return String.format("%s_%019d", createdAtKey, orderId);
+    }
+
+    private String toJson(Order order) {
+        return toJson(new OrderResponseDto(order));
+    }
+
+    private String toJson(OrderResponseDto order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderResponseDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, OrderResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RMap<String, String> getSummaryMap(Long memberId) {
+        return redissonClient.getMap(SUMMARY_KEY_PREFIX + memberId, StringCodec.INSTANCE);
+    }
+}
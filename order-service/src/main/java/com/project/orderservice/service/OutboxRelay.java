@@ -0,0 +1,32 @@
+package com.project.orderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 이벤트 Relay
+ *
+ * 일정 주기(relay-interval-ms)마다 전송 대기 중인 이벤트가 없을 때까지 묶음 단위로 Kafka에 전송한다.
+ * 전송에 실패하면 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = outboxService.relayBatch();
+            } while (relayed == outboxService.getBatchSize());
+        } catch (Exception e) {
+            log.error("[OUTBOX] 이벤트 전송 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
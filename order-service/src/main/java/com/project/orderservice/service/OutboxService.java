@@ -0,0 +1,92 @@
+package com.project.orderservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.orderservice.entity.OutboxEvent;
+import com.project.orderservice.exception.CustomException;
+import com.project.orderservice.exception.ErrorCode;
+import com.project.orderservice.repository.OutboxEventRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transactional Outbox
+ *
+ * 주문, 결제 정보와 같은 트랜잭션에서 이벤트를 outbox_events 테이블에 저장하고,
+ * OutboxRelay가 일정 주기마다 저장된 이벤트를 묶어서 Kafka로 전송한 뒤 삭제한다.
+ * 요청 처리 스레드는 Kafka 상태와 관계없이 DB 저장만 기다리며, 롤백된 주문의 이벤트는 전송되지 않는다.
+ * 이벤트는 최소 한 번(at-least-once) 전송되므로 Consumer는 중복 이벤트를 처리할 수 있어야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    @Value("${order.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMillis;
+
+    /**
+     * 이벤트 저장
+     *
+     * 호출한 메서드의 트랜잭션에 참여하며, 트랜잭션 밖에서 호출하면 예외가 발생한다.
+     *
+     * @param topic 전송할 topic
+     * @param key 메시지 key (같은 key의 이벤트는 같은 partition으로 전송)
+     * @param event 전송할 이벤트
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(String topic, String key, Object event) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(topic, key, objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.GENERAL_EXCEPTION, e);
+        }
+    }
+
+    /**
+     * 이벤트 묶음 전송
+     *
+     * 저장 순서대로 batch-size건을 잠금(SKIP LOCKED) 조회하여 모두 전송하고, 전송이 확인(ack)되면 삭제한다.
+     * 하나라도 전송에 실패하면 트랜잭션을 롤백하여 다음 주기에 다시 전송한다.
+     *
+     * @return 전송한 이벤트 수
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int relayBatch() throws Exception {
+        List<OutboxEvent> events = outboxEventRepository.findAllByOrderByOutboxEventIdAsc(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            futures.add(outboxKafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        outboxEventRepository.deleteAllInBatch(events);
+        log.info("[OUTBOX] 이벤트 전송 완료 - {}건", events.size());
+        return events.size();
+    }
+}
@@ -3,13 +3,21 @@ package com.project.orderservice.service;
 import com.project.orderservice.entity.Payment;
 import com.project.orderservice.event.PaymentRequestEvent;
 import com.project.orderservice.event.PaymentResponseEvent;
+import com.project.orderservice.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @EnableKafka
 @Slf4j
 @Service
@@ -19,30 +27,63 @@ public class PaymentEventService {
     private static final String PAYMENT_REQUEST_TOPIC = "payment-request-topic";
     private static final String PAYMENT_RESPONSE_TOPIC = "payment-response-topic";
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxService outboxService;
     private final PaymentService paymentService;
+    private final PaymentRepository paymentRepository;
+    private final BatchListenerMetrics batchListenerMetrics;
+    private final BatchTransactionExecutor batchTransactionExecutor;
 
     /**
-     * PaymentRequestEvent event 수신
+     * PaymentRequestEvent event 일괄 수신
+     *
+     * 한 번에 수신한 결제 요청(최대 order.kafka.batch.max-poll-records건)을 하나의 트랜잭션으로 저장하고,
+     * 결제 결과 이벤트는 같은 트랜잭션에서 Outbox에 저장한다.
+     * 결제 정보가 이미 저장된 주문(중복 전송된 이벤트)은 결제 결과 이벤트도 이미 Outbox에 저장되었으므로 건너뛴다.
+     * 일괄 저장에 실패하면 결제 요청별로 다시 저장하고, 실패한 결제 요청만 재시도 & DLT로 전송한다.
      *
-     * @param event
+     * @param events 결제 요청 이벤트 목록
+     * @param timestamps 각 이벤트의 전송 시점
      */
-    @KafkaListener(topics = PAYMENT_REQUEST_TOPIC)
-    public void listenPaymentRequestEvent(PaymentRequestEvent event) {
-        log.info("Received PaymentRequestEvent: productID: {}, orderId: {}", event.orderProductRequestDto().getProductId(), event.order().getOrderId());
+    @KafkaListener(topics = PAYMENT_REQUEST_TOPIC, containerFactory = "paymentRequestListenerContainerFactory")
+    public void listenPaymentRequestEvents(List<PaymentRequestEvent> events,
+                                           @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        long startNanos = System.nanoTime();
+        log.info("Received PaymentRequestEvent: {}건", events.size());
+
+        batchTransactionExecutor.execute(PAYMENT_REQUEST_TOPIC, events, this::savePaymentRequests);
+
+        batchListenerMetrics.record(PAYMENT_REQUEST_TOPIC, startNanos, timestamps);
+    }
+
+    /* 결제 요청 저장 & 결제 결과 이벤트 Outbox 저장 (하나의 트랜잭션) */
+    private void savePaymentRequests(List<PaymentRequestEvent> events) {
+        // 1. 중복 이벤트 제외 (같은 묶음 내 중복 & 이미 결제 정보가 저장된 주문)
+        Map<Long, PaymentRequestEvent> eventMap = new LinkedHashMap<>();
+        events.forEach(event -> eventMap.putIfAbsent(event.orderId(), event));
+        paymentRepository.findOrderIdsByOrderIdIn(eventMap.keySet()).forEach(eventMap::remove);
 
-        // 1. 주문 정보를 바탕으로 결제 정보 생성
-        Payment payment = paymentService.createPayment(event.order());
+        List<PaymentRequestEvent> newEvents = new ArrayList<>(eventMap.values());
+        if (newEvents.size() < events.size()) {
+            log.info("중복 결제 요청 제외 - {}건", events.size() - newEvents.size());
+        }
 
-        // 2. 결제 처리 및 결제 정보 저장
-        Payment savedPayment = paymentService.savePayment(payment);
+        // 2. 주문 정보를 바탕으로 결제 정보 생성 & 결제 처리 및 결제 정보 저장
+        List<Long> orderIds = newEvents.stream()
+                .map(PaymentRequestEvent::orderId)
+                .collect(Collectors.toList());
+        List<Payment> savedPayments = paymentService.savePayments(orderIds);
 
         // 3. 결제 정보 응답 event send
-        PaymentResponseEvent resultEvent = new PaymentResponseEvent(
-                event.order(),
-                event.orderProductRequestDto(),
-                savedPayment.getStatus()
-        );
-        kafkaTemplate.send(PAYMENT_RESPONSE_TOPIC, resultEvent);
+        for (int i = 0; i < newEvents.size(); i++) {
+            PaymentRequestEvent event = newEvents.get(i);
+            PaymentResponseEvent resultEvent = new PaymentResponseEvent(
+                    event.orderId(),
+                    event.memberId(),
+                    event.productId(),
+                    event.quantity(),
+                    savedPayments.get(i).getStatus()
+            );
+            outboxService.save(PAYMENT_RESPONSE_TOPIC, String.valueOf(event.orderId()), resultEvent);
+        }
     }
 }
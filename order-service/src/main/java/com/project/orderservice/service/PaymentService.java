@@ -4,18 +4,23 @@ import com.project.orderservice.dto.PaymentResponseDto;
 import com.project.orderservice.entity.Order;
 import com.project.orderservice.entity.Payment;
 import com.project.orderservice.entity.PaymentStatusEnum;
+import com.project.orderservice.repository.OrderRepository;
 import com.project.orderservice.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
 
     /**
      * 결제하기
@@ -58,13 +63,7 @@ public class PaymentService {
      */
     @Transactional
     public Payment savePayment(Payment payment) {
-        // PAYMENT_PENDING -> PAYMENT_COMPLETED 과정에서 이탈
-        // ex) 잔액 부족으로 인한 결제 실패
-        if (Math.random() < 0.20) { //20%
-            payment.setStatus(PaymentStatusEnum.PAYMENT_FAILED);
-        } else {
-            payment.setStatus(PaymentStatusEnum.PAYMENT_COMPLETED);
-        }
+        processPaymentStatus(payment);
 
         Payment savedPayment = paymentRepository.save(payment);
 
@@ -76,4 +75,34 @@ public class PaymentService {
         log.info(String.valueOf(savedPayment.getStatus()));
         return savedPayment;
     }
+
+    /**
+     * 여러 주문의 결제 처리 및 결제 정보 일괄 저장
+     *
+     * 주문은 조회하지 않고 ID로 참조(getReferenceById)만 하여 결제 정보에 연결한다.
+     *
+     * @param orderIds 결제할 주문의 ID 목록
+     * @return 저장된 결제 정보 목록 (주문 순서와 같음)
+     */
+    @Transactional
+    public List<Payment> savePayments(List<Long> orderIds) {
+        List<Payment> payments = orderIds.stream()
+                .map(orderRepository::getReferenceById)
+                .map(this::createPayment)
+                .peek(this::processPaymentStatus)
+                .collect(Collectors.toList());
+
+        List<Payment> savedPayments = paymentRepository.saveAll(payments);
+        log.info("결제 정보 일괄 저장 완료 - {}건", savedPayments.size());
+        return savedPayments;
+    }
+
+    /* PAYMENT_PENDING -> PAYMENT_COMPLETED 과정에서 이탈 (ex. 잔액 부족으로 인한 결제 실패) */
+    private void processPaymentStatus(Payment payment) {
+        if (Math.random() < 0.20) { //20%
+            payment.setStatus(PaymentStatusEnum.PAYMENT_FAILED);
+        } else {
+            payment.setStatus(PaymentStatusEnum.PAYMENT_COMPLETED);
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.project.orderservice.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 품절 상품 캐시 (애플리케이션 메모리)
+ *
+ * 상품 서비스가 발행하는 품절 정보(Redis Set: sold_out_products, Pub/Sub: product-sold-out 채널)를 메모리에 보관한다.
+ * 품절 상품에 대한 주문 요청은 상품 서비스를 호출하지 않고 바로 거절할 수 있다.
+ * Pub/Sub 메시지가 유실되는 경우를 대비해 일정 주기(refresh-interval-ms)마다 Redis Set 전체를 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutProductCache {
+
+    private static final String SOLD_OUT_CHANNEL = "product-sold-out";
+    private static final String SOLD_OUT_KEY = "sold_out_products";
+    private static final String SOLD_OUT_MESSAGE_PREFIX = "SOLD_OUT:";
+    private static final String AVAILABLE_MESSAGE_PREFIX = "AVAILABLE:";
+
+    private final RedissonClient redissonClient;
+
+    private final Set<Long> soldOutProductIds = ConcurrentHashMap.newKeySet();
+    private RTopic soldOutTopic;
+    private int listenerId;
+
+    /* 품절 메시지 구독 및 초기 품절 목록 조회 */
+    @PostConstruct
+    public void subscribe() {
+        soldOutTopic = redissonClient.getTopic(SOLD_OUT_CHANNEL, StringCodec.INSTANCE);
+        listenerId = soldOutTopic.addListener(String.class, (channel, message) -> handleMessage(message));
+        refresh();
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        soldOutTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 품절 여부 확인
+     *
+     * @param productId 확인할 상품의 ID
+     * @return 품절 상품이면 true
+     */
+    public boolean isSoldOut(Long productId) {
+        return soldOutProductIds.contains(productId);
+    }
+
+    /* 재고 롤백 요청 후 해당 인스턴스의 품절 상태 해제 (다른 인스턴스는 상품 서비스의 메시지로 해제) */
+    public void markAvailable(Long productId) {
+        soldOutProductIds.remove(productId);
+    }
+
+    /* 품절 목록 전체 동기화 */
+    @Scheduled(fixedDelayString = "${order.sold-out.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            Set<Long> latest = redissonClient.<String>getSet(SOLD_OUT_KEY, StringCodec.INSTANCE)
+                    .readAll()
+                    .stream()
+                    .map(Long::parseLong)
+                    .collect(Collectors.toSet());
+            soldOutProductIds.retainAll(latest);
+            soldOutProductIds.addAll(latest);
+        } catch (Exception e) {
+            log.error("품절 상품 목록 동기화 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /* 품절 메시지 수신 (message: SOLD_OUT:{productId} 또는 AVAILABLE:{productId}) */
+    private void handleMessage(String message) {
+        try {
+            if (message.startsWith(SOLD_OUT_MESSAGE_PREFIX)) {
+                soldOutProductIds.add(Long.parseLong(message.substring(SOLD_OUT_MESSAGE_PREFIX.length())));
+            } else if (message.startsWith(AVAILABLE_MESSAGE_PREFIX)) {
+                soldOutProductIds.remove(Long.parseLong(message.substring(AVAILABLE_MESSAGE_PREFIX.length())));
+            }
+            log.info("SOLD OUT CACHE UPDATED - {}", message);
+        } catch (NumberFormatException e) {
+            log.error("잘못된 품절 메시지입니다: {}", message);
+        }
+    }
+}
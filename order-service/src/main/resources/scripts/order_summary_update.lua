@@ -0,0 +1,52 @@
+-- 회원별 주문 요약 갱신 (원자적 처리)
+-- KEYS[1] : 주문 요약 key (order_summary: {memberId})
+-- ARGV[1] : 주문 ID
+-- ARGV[2] : 변경 전 주문 상태 (새 주문이면 '')
+-- ARGV[3] : 변경 후 주문 상태
+-- ARGV[4] : 주문 정보 JSON (새 주문인 경우에만, 상태 변경이면 '')
+-- ARGV[5] : 보관할 최근 주문 수
+-- ARGV[6] : 주문 정렬 key ({주문 일시}_{주문 ID}, 새 주문인 경우에만, 상태 변경이면 '')
+-- return  : 1 갱신 / 0 캐시 없음 (다음 조회 시 DB에서 다시 생성)
+local key = KEYS[1]
+if redis.call('EXISTS', key) == 0 then
+    return 0
+end
+
+local orderId = ARGV[1]
+
+-- 새 주문이 이미 요약에 있으면 커밋 이후 DB에서 다시 생성된 요약에 포함된 것이므로 다시 집계하지 않는다.
+if ARGV[4] ~= '' and redis.call('HEXISTS', key, 'order:' .. orderId) == 1 then
+    return 1
+end
+
+if ARGV[2] ~= '' then
+    redis.call('HINCRBY', key, 'count:' .. ARGV[2], -1)
+end
+redis.call('HINCRBY', key, 'count:' .. ARGV[3], 1)
+
+if ARGV[4] == '' then
+    -- 상태 변경: 최근 주문 목록에 있는 주문만 상태 갱신
+    if redis.call('HEXISTS', key, 'order:' .. orderId) == 1 then
+        redis.call('HSET', key, 'status:' .. orderId, ARGV[3])
+    end
+    return 1
+end
+
+-- 새 주문: 최근 주문 목록에 추가한 뒤 오래된 주문(주문 일시, 주문 ID 순)부터 제거
+-- 주문 ID는 인스턴스별로 미리 할당받은 범위에서 발급되어 주문 순서와 다를 수 있으므로 정렬 key로 비교한다.
+redis.call('HSET', key, 'order:' .. orderId, ARGV[4], 'status:' .. orderId, ARGV[3], 'sort:' .. orderId, ARGV[6])
+
+local orders = {}
+for _, field in ipairs(redis.call('HKEYS', key)) do
+    local id = string.match(field, '^order:(%d+)$')
+    if id then
+        table.insert(orders, { id = id, sort = redis.call('HGET', key, 'sort:' .. id) or '' })
+    end
+end
+table.sort(orders, function(a, b) return a.sort < b.sort end)
+
+for i = 1, #orders - tonumber(ARGV[5]) do
+    local id = orders[i].id
+    redis.call('HDEL', key, 'order:' .. id, 'status:' .. id, 'sort:' .. id)
+end
+return 1
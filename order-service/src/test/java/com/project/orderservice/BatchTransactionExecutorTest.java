@@ -0,0 +1,76 @@
+package com.project.orderservice;
+
+import com.project.orderservice.service.BatchTransactionExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BatchTransactionExecutorTest {
+
+    private BatchTransactionExecutor batchTransactionExecutor;
+    private final List<List<String>> handled = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        batchTransactionExecutor = new BatchTransactionExecutor(transactionManager);
+    }
+
+    /* failedEvent가 포함된 묶음은 실패 */
+    private void handle(List<String> events, String failedEvent) {
+        handled.add(events);
+        if (events.contains(failedEvent)) {
+            throw new IllegalStateException("처리 실패 - " + failedEvent);
+        }
+    }
+
+    @Test
+    public void batchIsHandledInOneTransaction() {
+        // when
+        batchTransactionExecutor.execute("test", List.of("a", "b", "c"), events -> handle(events, null));
+
+        // then
+        assertThat(handled).containsExactly(List.of("a", "b", "c"));
+    }
+
+    @Test
+    public void failedEventIndexIsReported() {
+        // when & then - 일괄 처리 실패 후 이벤트별로 처리, 두 번째 이벤트의 위치를 알림
+        assertThatThrownBy(() -> batchTransactionExecutor.execute("test", List.of("a", "b", "c"), events -> handle(events, "b")))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .extracting(e -> ((BatchListenerFailedException) e).getIndex())
+                .isEqualTo(1);
+
+        // 실패한 이벤트 이후의 이벤트는 다시 수신되므로 처리하지 않음
+        assertThat(handled).containsExactly(List.of("a", "b", "c"), List.of("a"), List.of("b"));
+    }
+
+    @Test
+    public void eventsAreHandledIndividuallyWhenOnlyTheBatchFails() {
+        // given - 묶음으로 처리할 때만 실패 (ex. 일괄 저장 중 일시적인 오류)
+        List<String> batch = List.of("a", "b");
+
+        // when
+        batchTransactionExecutor.execute("test", batch, events -> {
+            handled.add(events);
+            if (events.size() > 1) {
+                throw new IllegalStateException("일괄 처리 실패");
+            }
+        });
+
+        // then
+        assertThat(handled).containsExactly(List.of("a", "b"), List.of("a"), List.of("b"));
+    }
+}
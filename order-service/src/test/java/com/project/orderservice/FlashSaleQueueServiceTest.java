@@ -0,0 +1,92 @@
+package com.project.orderservice;
+
+import com.project.orderservice.dto.FlashSaleRequestDto;
+import com.project.orderservice.dto.OrderProductRequestDto;
+import com.project.orderservice.dto.ShippingRequestDto;
+import com.project.orderservice.repository.OrderRepository;
+import com.project.orderservice.service.BatchListenerMetrics;
+import com.project.orderservice.service.FlashSaleQueueService;
+import com.project.orderservice.service.FlashSaleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FlashSaleQueueServiceTest {
+
+    @Mock
+    private FlashSaleService flashSaleService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private BatchListenerMetrics batchListenerMetrics;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private RMap<String, String> ticketMap;
+
+    @InjectMocks
+    private FlashSaleQueueService flashSaleQueueService;
+
+    private FlashSaleRequestDto flashSaleRequest;
+
+    @BeforeEach
+    public void setUp() {
+        OrderProductRequestDto orderProduct = new OrderProductRequestDto();
+        orderProduct.setProductId(100L);
+        orderProduct.setQuantity(1);
+        orderProduct.setUnitPrice(1000);
+
+        flashSaleRequest = new FlashSaleRequestDto();
+        flashSaleRequest.setOrderProduct(orderProduct);
+        flashSaleRequest.setShipping(new ShippingRequestDto());
+
+        when(flashSaleService.requestOrder(flashSaleRequest)).thenReturn(true);
+        when(redissonClient.<String, String>getMap(anyString(), any(Codec.class))).thenReturn(ticketMap);
+    }
+
+    @Test
+    public void stockIsRolledBackWhenTicketCannotBeSaved() {
+        // given
+        doThrow(new IllegalStateException("Redis 오류")).when(ticketMap).putAll(anyMap());
+
+        // when & then - 재고 감소 이후 접수 정보 저장에 실패하면 감소시킨 재고를 롤백
+        assertThatThrownBy(() -> flashSaleQueueService.enqueueOrder("1", flashSaleRequest))
+                .isInstanceOf(IllegalStateException.class);
+        verify(flashSaleService).reduceStock(flashSaleRequest.getOrderProduct());
+        verify(flashSaleService).rollbackStock(flashSaleRequest.getOrderProduct());
+    }
+
+    @Test
+    public void stockIsRolledBackWhenSendFails() {
+        // given - 큐 전송 요청 자체가 실패 (ex. 메타데이터 조회 timeout)
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenThrow(new IllegalStateException("Kafka 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> flashSaleQueueService.enqueueOrder("1", flashSaleRequest))
+                .isInstanceOf(IllegalStateException.class);
+        verify(flashSaleService).rollbackStock(flashSaleRequest.getOrderProduct());
+    }
+}
@@ -0,0 +1,241 @@
+package com.project.orderservice;
+
+import com.project.orderservice.dto.FlashSaleRequestDto;
+import com.project.orderservice.dto.OrderProductRequestDto;
+import com.project.orderservice.dto.ShippingRequestDto;
+import com.project.orderservice.dto.StockRequestDto;
+import com.project.orderservice.entity.Order;
+import com.project.orderservice.entity.OrderStatusEnum;
+import com.project.orderservice.entity.PaymentStatusEnum;
+import com.project.orderservice.entity.Shipping;
+import com.project.orderservice.event.FlashSaleOrderEvent;
+import com.project.orderservice.event.PaymentResponseEvent;
+import com.project.orderservice.event.ShippingRequestEvent;
+import com.project.orderservice.feign.ProductOrderFlowServiceClient;
+import com.project.orderservice.repository.OrderProductRepository;
+import com.project.orderservice.repository.OrderRepository;
+import com.project.orderservice.repository.ShippingRepository;
+import com.project.orderservice.service.BatchListenerMetrics;
+import com.project.orderservice.service.BatchTransactionExecutor;
+import com.project.orderservice.service.FlashSaleService;
+import com.project.orderservice.service.OrderSummaryCache;
+import com.project.orderservice.service.OutboxService;
+import com.project.orderservice.service.SoldOutProductCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FlashSaleServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderProductRepository orderProductRepository;
+
+    @Mock
+    private ShippingRepository shippingRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OrderSummaryCache orderSummaryCache;
+
+    @Mock
+    private BatchTransactionExecutor batchTransactionExecutor;
+
+    @Mock
+    private BatchListenerMetrics batchListenerMetrics;
+
+    @Mock
+    private ProductOrderFlowServiceClient productOrderFlowServiceClient;
+
+    @Mock
+    private SoldOutProductCache soldOutProductCache;
+
+    @InjectMocks
+    private FlashSaleService flashSaleService;
+
+    @Captor
+    private ArgumentCaptor<List<Order>> ordersCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Shipping>> shippingsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<StockRequestDto>> stockRequestsCaptor;
+
+    private FlashSaleOrderEvent orderEvent(String ticket) {
+        OrderProductRequestDto orderProduct = new OrderProductRequestDto();
+        orderProduct.setProductId(100L);
+        orderProduct.setQuantity(1);
+        orderProduct.setUnitPrice(1000);
+
+        FlashSaleRequestDto flashSaleRequest = new FlashSaleRequestDto();
+        flashSaleRequest.setOrderProduct(orderProduct);
+        flashSaleRequest.setShipping(new ShippingRequestDto());
+        return new FlashSaleOrderEvent(ticket, 1L, flashSaleRequest);
+    }
+
+    /* 이벤트 묶음을 트랜잭션 없이 바로 처리 */
+    @SuppressWarnings("unchecked")
+    private void givenBatchRunsHandler() {
+        doAnswer(invocation -> {
+            ((Consumer<List<Object>>) invocation.getArgument(2)).accept(invocation.getArgument(1));
+            return null;
+        }).when(batchTransactionExecutor).execute(anyString(), anyList(), any());
+    }
+
+    private PaymentResponseEvent paymentFailed(Long orderId) {
+        return new PaymentResponseEvent(orderId, 1L, 100L + orderId, 1, PaymentStatusEnum.PAYMENT_FAILED);
+    }
+
+    /* 결제 실패 처리 - 주문 1은 이번에 PAYMENT_FAILED로 변경됨, 주문 2는 이미 처리됨 */
+    private void givenPaymentFailedOrders() {
+        when(orderRepository.updateStatusByOrderIds(eq(List.of(1L)), eq(OrderStatusEnum.PAYMENT_PENDING),
+                eq(OrderStatusEnum.PAYMENT_FAILED), any())).thenReturn(1);
+        when(orderRepository.updateStatusByOrderIds(eq(List.of(2L)), eq(OrderStatusEnum.PAYMENT_PENDING),
+                eq(OrderStatusEnum.PAYMENT_FAILED), any())).thenReturn(0);
+    }
+
+    /* 결제 결과 처리 후 트랜잭션 커밋 */
+    private void handlePaymentResultsAndCommit(List<PaymentResponseEvent> events) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            flashSaleService.handlePaymentResultEvents(events, events.stream().map(event -> 0L).toList());
+
+            // 커밋 전에는 재고를 롤백하지 않음
+            verify(productOrderFlowServiceClient, never()).rollbackStockBatch(anyList());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /* 저장된 주문에 ID 발급 (11부터) */
+    private void givenSaveAllAssignsIds() {
+        AtomicLong nextOrderId = new AtomicLong(11L);
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setOrderId(nextOrderId.getAndIncrement()));
+            return orders;
+        });
+    }
+
+    @Test
+    public void saveOrdersSavesEachTicketOnce() {
+        // given - 접수 A는 이미 주문 10으로 저장됨, 접수 B는 같은 묶음에 두 번 전달됨
+        when(orderRepository.findOrderIdsByTicketIn(anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{"A", 10L}));
+        givenSaveAllAssignsIds();
+
+        // when
+        List<Long> orderIds = flashSaleService.saveOrders(List.of(orderEvent("A"), orderEvent("B"), orderEvent("B")));
+
+        // then - 이벤트 순서대로 주문 ID 반환, 새 주문은 B 한 건만 저장
+        assertThat(orderIds).containsExactly(10L, 11L, 11L);
+        verify(orderRepository).saveAll(ordersCaptor.capture());
+        assertThat(ordersCaptor.getValue()).extracting(Order::getTicket).containsExactly("B");
+    }
+
+    @Test
+    public void saveOrdersSkipsAlreadySavedTickets() {
+        // given
+        when(orderRepository.findOrderIdsByTicketIn(anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{"A", 10L}));
+
+        // when
+        List<Long> orderIds = flashSaleService.saveOrders(List.of(orderEvent("A")));
+
+        // then - 주문 & 결제 요청/배송 정보 이벤트를 다시 저장하지 않음
+        assertThat(orderIds).containsExactly(10L);
+        verify(orderRepository, never()).saveAll(anyList());
+        verify(orderProductRepository, never()).saveAll(anyList());
+        verify(outboxService, never()).save(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void saveShippingsSkipsDuplicateEvents() {
+        // given - 주문 1은 같은 묶음에 두 번 전달됨, 주문 2는 이미 배송 정보가 저장됨
+        givenBatchRunsHandler();
+        when(shippingRepository.findOrderIdsByOrderIdIn(anyCollection())).thenReturn(List.of(2L));
+        when(orderRepository.getReferenceById(1L)).thenReturn(new Order());
+        List<ShippingRequestEvent> events = List.of(
+                new ShippingRequestEvent(1L, "address", "detail", "010-0000-0000"),
+                new ShippingRequestEvent(1L, "address", "detail", "010-0000-0000"),
+                new ShippingRequestEvent(2L, "address", "detail", "010-0000-0000"));
+
+        // when
+        flashSaleService.saveShippings(events, List.of(0L, 0L, 0L));
+
+        // then - 주문 1의 배송 정보만 한 번 저장
+        verify(shippingRepository).saveAll(shippingsCaptor.capture());
+        assertThat(shippingsCaptor.getValue()).hasSize(1);
+        verify(orderRepository, never()).getReferenceById(2L);
+    }
+
+    @Test
+    public void saveShippingsSavesNothingForRedeliveredEvents() {
+        // given
+        givenBatchRunsHandler();
+        when(shippingRepository.findOrderIdsByOrderIdIn(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        flashSaleService.saveShippings(List.of(new ShippingRequestEvent(1L, "address", "detail", "010-0000-0000")), List.of(0L));
+
+        // then
+        verify(shippingRepository).saveAll(shippingsCaptor.capture());
+        assertThat(shippingsCaptor.getValue()).isEmpty();
+    }
+
+    @Test
+    public void paymentFailureRollsBackStockOnceAfterCommit() {
+        // given
+        givenBatchRunsHandler();
+        givenPaymentFailedOrders();
+
+        // when - 주문 1의 결제 실패가 같은 묶음에 두 번 전달됨
+        handlePaymentResultsAndCommit(List.of(paymentFailed(1L), paymentFailed(1L), paymentFailed(2L)));
+
+        // then - 이번에 상태가 변경된 주문 1의 재고만 한 번 롤백
+        verify(productOrderFlowServiceClient).rollbackStockBatch(stockRequestsCaptor.capture());
+        assertThat(stockRequestsCaptor.getValue()).extracting(StockRequestDto::getProductId).containsExactly(101L);
+        verify(soldOutProductCache).markAvailable(101L);
+    }
+
+    @Test
+    public void stockRollbackFailureAfterCommitIsNotThrown() {
+        // given
+        givenBatchRunsHandler();
+        givenPaymentFailedOrders();
+        when(productOrderFlowServiceClient.rollbackStockBatch(anyList())).thenThrow(new IllegalStateException("상품 서비스 오류"));
+
+        // when & then - 상태 변경은 이미 커밋되었으므로 예외를 던지지 않고 로그만 남김
+        handlePaymentResultsAndCommit(List.of(paymentFailed(1L), paymentFailed(2L)));
+        verify(productOrderFlowServiceClient).rollbackStockBatch(anyList());
+    }
+}
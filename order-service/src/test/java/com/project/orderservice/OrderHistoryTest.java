@@ -0,0 +1,93 @@
+package com.project.orderservice;
+
+import com.project.orderservice.dto.OrderHistoryResponseDto;
+import com.project.orderservice.dto.OrderResponseDto;
+import com.project.orderservice.entity.Order;
+import com.project.orderservice.entity.OrderStatusEnum;
+import com.project.orderservice.exception.CustomException;
+import com.project.orderservice.exception.ErrorCode;
+import com.project.orderservice.repository.OrderRepository;
+import com.project.orderservice.service.OrderService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+public class OrderHistoryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Long memberId = System.nanoTime();
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        // 주문 ID 순서와 주문 일시 순서가 다른 주문 5건 (여러 인스턴스가 미리 할당받은 ID 범위에서 발급한 경우)
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        int[] minutes = {2, 0, 2, 1, -1};
+        for (int minute : minutes) {
+            Order order = new Order();
+            order.setMemberId(memberId);
+            order.setTotalQuantity(1);
+            order.setTotalPrice(1000);
+            order.setStatus(OrderStatusEnum.PAYMENT_PENDING);
+            orderIds.add(orderRepository.save(order).getOrderId());
+        }
+        entityManager.flush();
+
+        for (int i = 0; i < minutes.length; i++) {
+            entityManager.createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.orderId = :orderId")
+                    .setParameter("createdAt", base.plusMinutes(minutes[i]))
+                    .setParameter("orderId", orderIds.get(i))
+                    .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    public void historyIsPagedByCreatedAtThenOrderId() {
+        // given - 주문 일시 내림차순, 같은 일시는 주문 ID 내림차순
+        List<Long> expected = List.of(orderIds.get(2), orderIds.get(0), orderIds.get(3), orderIds.get(1), orderIds.get(4));
+
+        // when - 2건씩 마지막 페이지까지 조회
+        List<Long> pagedOrderIds = new ArrayList<>();
+        String cursor = null;
+        OrderHistoryResponseDto page;
+        do {
+            page = orderService.getOrderHistory(String.valueOf(memberId), cursor, 2);
+            page.getOrders().stream().map(OrderResponseDto::getOrderId).forEach(pagedOrderIds::add);
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        // then - 빠지거나 중복된 주문 없이 최신순으로 조회
+        assertThat(pagedOrderIds).containsExactlyElementsOf(expected);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void invalidCursorIsRejected() {
+        // when & then
+        assertThatThrownBy(() -> orderService.getOrderHistory(String.valueOf(memberId), "invalid", 2))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_ORDER_HISTORY_CURSOR);
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.orderservice;
+
+import com.project.orderservice.entity.Order;
+import com.project.orderservice.entity.OrderProduct;
+import com.project.orderservice.entity.OrderStatusEnum;
+import com.project.orderservice.exception.CustomException;
+import com.project.orderservice.exception.ErrorCode;
+import com.project.orderservice.feign.ProductOrderFlowServiceClient;
+import com.project.orderservice.repository.OrderProductRepository;
+import com.project.orderservice.repository.OrderRepository;
+import com.project.orderservice.service.OrderService;
+import com.project.orderservice.service.OrderSummaryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderProductRepository orderProductRepository;
+
+    @Mock
+    private ProductOrderFlowServiceClient productOrderFlowServiceClient;
+
+    @Mock
+    private OrderSummaryCache orderSummaryCache;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private final Long orderId = 1L;
+    private final Long memberId = 10L;
+    private Order order;
+
+    @BeforeEach
+    public void setUp() {
+        order = new Order();
+        order.setOrderId(orderId);
+        order.setMemberId(memberId);
+        order.setStatus(OrderStatusEnum.PAYMENT_PENDING);
+        when(orderRepository.findByOrderIdAndMemberId(orderId, memberId)).thenReturn(Optional.of(order));
+    }
+
+    @Test
+    public void cancelOrderRollsBackStockWhenStatusChanged() {
+        // given
+        when(orderRepository.updateStatusByOrderIds(eq(List.of(orderId)), eq(OrderStatusEnum.PAYMENT_PENDING),
+                eq(OrderStatusEnum.CANCELLED), any())).thenReturn(1);
+        when(orderProductRepository.findAllByOrderOrderId(orderId))
+                .thenReturn(List.of(new OrderProduct(1000, 2, order, 100L)));
+
+        // when
+        orderService.cancelOrder(String.valueOf(memberId), orderId);
+
+        // then
+        verify(productOrderFlowServiceClient).rollbackStockBatch(anyList());
+    }
+
+    @Test
+    public void cancelOrderFailsWhenStatusChangedConcurrently() {
+        // given - 조회 이후 다른 취소 요청 또는 결제 실패 처리로 상태가 이미 변경됨
+        when(orderRepository.updateStatusByOrderIds(eq(List.of(orderId)), eq(OrderStatusEnum.PAYMENT_PENDING),
+                eq(OrderStatusEnum.CANCELLED), any())).thenReturn(0);
+
+        // when & then - 재고를 다시 롤백하지 않음
+        assertThatThrownBy(() -> orderService.cancelOrder(String.valueOf(memberId), orderId))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CANCELLATION_NOT_ALLOWED);
+        verify(productOrderFlowServiceClient, never()).rollbackStockBatch(anyList());
+        verify(orderSummaryCache, never()).statusChanged(anyList());
+    }
+}
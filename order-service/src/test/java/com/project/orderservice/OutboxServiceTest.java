@@ -0,0 +1,126 @@
+package com.project.orderservice;
+
+import com.project.orderservice.entity.OutboxEvent;
+import com.project.orderservice.repository.OutboxEventRepository;
+import com.project.orderservice.service.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 테스트 중에는 OutboxRelay가 이벤트를 가져가지 않도록 relay 주기를 늘림
+@SpringBootTest(properties = "order.outbox.relay-interval-ms=3600000")
+public class OutboxServiceTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean(name = "outboxKafkaTemplate")
+    private KafkaTemplate<String, String> outboxKafkaTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outboxEventRepository.deleteAllInBatch();
+
+        // 이벤트 저장은 호출한 메서드의 트랜잭션에서만 가능
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.save("test-topic", "1", "first");
+            outboxService.save("test-topic", "2", "second");
+        });
+    }
+
+    @Test
+    public void relayBatchSendsAndDeletesEvents() throws Exception {
+        // given
+        when(outboxKafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int relayed = outboxService.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxKafkaTemplate, times(2)).send(anyString(), anyString(), anyString());
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    public void failedSendKeepsEventsForNextRelay() {
+        // given
+        when(outboxKafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Kafka 오류")));
+
+        // when & then - 트랜잭션을 롤백하여 다음 주기에 다시 전송
+        assertThatThrownBy(() -> outboxService.relayBatch()).isInstanceOf(Exception.class);
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void lockedEventsAreSkipped() throws Exception {
+        // given - 다른 Relay가 이벤트를 잠금 조회한 상태
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> otherRelay = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findAllByOrderByOutboxEventIdAsc(PageRequest.of(0, 10));
+            assertThat(events).hasSize(2);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when - 잠금을 기다리지 않고 잠금된 이벤트를 건너뜀
+            int relayed = outboxService.relayBatch();
+
+            // then
+            assertThat(relayed).isZero();
+            verify(outboxKafkaTemplate, never()).send(anyString(), anyString(), anyString());
+        } finally {
+            release.countDown();
+            otherRelay.get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    public void saveRequiresTransaction() {
+        // when & then
+        assertThatThrownBy(() -> outboxService.save("test-topic", "3", "third")).isInstanceOf(Exception.class);
+    }
+}
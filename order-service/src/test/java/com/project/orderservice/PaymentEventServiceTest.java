@@ -0,0 +1,101 @@
+package com.project.orderservice;
+
+import com.project.orderservice.entity.Payment;
+import com.project.orderservice.entity.PaymentStatusEnum;
+import com.project.orderservice.event.PaymentRequestEvent;
+import com.project.orderservice.event.PaymentResponseEvent;
+import com.project.orderservice.repository.PaymentRepository;
+import com.project.orderservice.service.BatchListenerMetrics;
+import com.project.orderservice.service.BatchTransactionExecutor;
+import com.project.orderservice.service.OutboxService;
+import com.project.orderservice.service.PaymentEventService;
+import com.project.orderservice.service.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentEventServiceTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private BatchListenerMetrics batchListenerMetrics;
+
+    @Mock
+    private BatchTransactionExecutor batchTransactionExecutor;
+
+    @InjectMocks
+    private PaymentEventService paymentEventService;
+
+    /* 이벤트 묶음을 트랜잭션 없이 바로 처리 */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        doAnswer(invocation -> {
+            ((Consumer<List<Object>>) invocation.getArgument(2)).accept(invocation.getArgument(1));
+            return null;
+        }).when(batchTransactionExecutor).execute(anyString(), anyList(), any());
+    }
+
+    private Payment payment(PaymentStatusEnum status) {
+        Payment payment = new Payment();
+        payment.setStatus(status);
+        return payment;
+    }
+
+    @Test
+    public void duplicatePaymentRequestsAreSkipped() {
+        // given - 주문 1은 같은 묶음에 두 번 전달됨, 주문 2는 이미 결제 정보가 저장됨
+        when(paymentRepository.findOrderIdsByOrderIdIn(anyCollection())).thenReturn(List.of(2L));
+        when(paymentService.savePayments(List.of(1L))).thenReturn(List.of(payment(PaymentStatusEnum.PAYMENT_COMPLETED)));
+
+        // when
+        paymentEventService.listenPaymentRequestEvents(List.of(
+                new PaymentRequestEvent(1L, 1L, 100L, 1),
+                new PaymentRequestEvent(1L, 1L, 100L, 1),
+                new PaymentRequestEvent(2L, 1L, 100L, 1)), List.of(0L, 0L, 0L));
+
+        // then - 주문 1만 결제 처리하고 결제 결과 이벤트도 한 번만 저장
+        verify(paymentService).savePayments(List.of(1L));
+        verify(outboxService, times(1)).save(eq("payment-response-topic"), eq("1"), any(PaymentResponseEvent.class));
+        verify(outboxService, never()).save(anyString(), eq("2"), any());
+    }
+
+    @Test
+    public void redeliveredPaymentRequestsSaveNothing() {
+        // given
+        when(paymentRepository.findOrderIdsByOrderIdIn(anyCollection())).thenReturn(List.of(1L));
+        when(paymentService.savePayments(List.of())).thenReturn(List.of());
+
+        // when
+        paymentEventService.listenPaymentRequestEvents(List.of(new PaymentRequestEvent(1L, 1L, 100L, 1)), List.of(0L));
+
+        // then
+        verify(outboxService, never()).save(anyString(), anyString(), any());
+    }
+}
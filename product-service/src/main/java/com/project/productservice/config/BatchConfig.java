@@ -2,24 +2,35 @@ package com.project.productservice.config;
 
 import com.project.productservice.entity.Product;
 import com.project.productservice.repository.ProductRepository;
+import com.project.productservice.service.ShardedStockService;
+import com.project.productservice.service.StockJournal;
+import com.project.productservice.service.StockReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.data.RepositoryItemReader;
 import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -28,12 +39,24 @@ public class BatchConfig {
 
     private final String JOB_NAME = "productSyncJob";
     private final String STEP_NAME = "productSyncStep";
+    private final String WARM_UP_JOB_NAME = "stockWarmUpJob";
+    private final String WARM_UP_STEP_NAME = "stockWarmUpStep";
     private static final String STOCK_KEY_PREFIX = "stock_ID: ";
     private static final String PURCHASE_KEY_PREFIX = "purchase_start_time_ID: ";
 
     private final ProductRepository productRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ShardedStockService shardedStockService;
+    private final StockReconciler stockReconciler;
+    private final StockJournal stockJournal;
+    private final MeterRegistry meterRegistry;
 
+    @Value("${product.sync.chunk-size:500}")
+    private int syncChunkSize;
+
+    /**
+     * 상품 구매 가능 시간 동기화(DB -> Redis) & 재고 정합성 검사 Job 등록
+     */
     @Bean
     public Job productSyncJob(JobRepository jobRepository, Step productSyncStep) {
         return new JobBuilder(JOB_NAME, jobRepository)
@@ -45,9 +68,8 @@ public class BatchConfig {
     @Bean
     public Step productSyncStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new StepBuilder(STEP_NAME, jobRepository)
-                .<Product, Product>chunk(20, transactionManager)    // chunk size
+                .<Product, Product>chunk(syncChunkSize, transactionManager)    // chunk size
                 .reader(productSyncReader())
-                .processor(productSyncProcessor())
                 .writer(productSyncWriter())
                 .transactionManager(transactionManager)
                 .build();
@@ -59,41 +81,119 @@ public class BatchConfig {
                 .name("productSyncReader")
                 .repository(productRepository)
                 .methodName("findAll")
-                .pageSize(20)
+                .pageSize(syncChunkSize)
                 .sorts(Collections.singletonMap("productId", org.springframework.data.domain.Sort.Direction.ASC))   // 정렬 기준
                 .build();
     }
 
+    /**
+     * ItemWriter: chunk 단위로 구매 가능 시간은 Redis 값을 DB 값과 비교하여 다른 값만 갱신하고, 재고는 정합성 검사에 맡긴다.
+     *
+     * 1. chunk에 포함된 상품의 구매 가능 시간 key를 한 번의 MGET으로 조회
+     * 2. 메모리에서 DB 값과 비교 (캐싱되지 않은 key는 동기화 대상이 아님)
+     * 3. 값이 다른 key만 한 번의 MSET으로 갱신하고, 불일치 건수를 product.sync.drift 지표로 기록
+     * 4. 재고는 DB에 아직 반영되지 않은 감소량이 있을 수 있으므로 덮어쓰지 않고 StockReconciler로 검사한다.
+     *    (DB 재고로 덮어쓰면 이미 판매된 재고가 되살아남)
+     */
     @Bean
-    public ItemProcessor<Product, Product> productSyncProcessor() {
-        return product -> {
-            // 재고 동기화
-            synchronizeRedisAndDb(
-                    STOCK_KEY_PREFIX + product.getProductId(),
-                    String.valueOf(product.getStock())
-            );
-
-            // 구매 가능 시간 동기화
-            synchronizeRedisAndDb(
-                    PURCHASE_KEY_PREFIX + product.getProductId(),
-                    product.getPurchaseStartTime().toString()
-            );
-
-            return product;
+    public ItemWriter<Product> productSyncWriter() {
+        return chunk -> {
+            List<Long> productIds = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            List<String> dbValues = new ArrayList<>();
+            for (Product product : chunk) {
+                productIds.add(product.getProductId());
+                keys.add(PURCHASE_KEY_PREFIX + product.getProductId());
+                dbValues.add(product.getPurchaseStartTime().toString());
+            }
+
+            List<String> redisValues = redisTemplate.opsForValue().multiGet(keys);
+
+            Map<String, String> driftedValues = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                String redisValue = redisValues.get(i);
+                if (redisValue != null && !redisValue.equals(dbValues.get(i))) {
+                    driftedValues.put(keys.get(i), dbValues.get(i));
+                }
+            }
+
+            if (!driftedValues.isEmpty()) {
+                redisTemplate.opsForValue().multiSet(driftedValues);
+            }
+            stockReconciler.reconcile(productIds);
+
+            meterRegistry.counter("product.sync.checked").increment(chunk.size());
+            meterRegistry.counter("product.sync.drift", "field", "purchase_start_time").increment(driftedValues.size());
+            log.info(">>> 상품 동기화 - {}건 확인, 구매 가능 시간 불일치 {}건", chunk.size(), driftedValues.size());
         };
     }
 
-    private void synchronizeRedisAndDb(String redisKey, String dbValue) {
-        String redisValue = redisTemplate.opsForValue().get(redisKey);
+    /**
+     * 판매 시작 전 재고 & 구매 가능 시간 캐싱 Job 등록
+     */
+    @Bean
+    public Job stockWarmUpJob(JobRepository jobRepository, Step stockWarmUpStep) {
+        return new JobBuilder(WARM_UP_JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(stockWarmUpStep)
+                .build();
+    }
 
-        if (redisValue != null && !redisValue.equals(dbValue)) {
-            redisTemplate.opsForValue().set(redisKey, dbValue);
-        }
+    /**
+     * 판매 시작 전 재고 & 구매 가능 시간 캐싱 Step 등록
+     */
+    @Bean
+    public Step stockWarmUpStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder(WARM_UP_STEP_NAME, jobRepository)
+                .<Product, Product>chunk(20, transactionManager)    // chunk size
+                .reader(stockWarmUpReader(null, 0))
+                .writer(stockWarmUpWriter())
+                .transactionManager(transactionManager)
+                .build();
     }
 
+    /**
+     * ItemReader: 구매 시작 시간이 (실행 시점, 실행 시점 + windowMinutes] 사이인 상품을 조회한다.
+     */
     @Bean
-    public ItemWriter<Product> productSyncWriter() {
-        return items -> {
+    @StepScope
+    public RepositoryItemReader<Product> stockWarmUpReader(@Value("#{jobParameters['time']}") String time,
+                                                           @Value("#{jobParameters['windowMinutes']}") long windowMinutes) {
+        LocalDateTime from = LocalDateTime.parse(time);
+        return new RepositoryItemReaderBuilder<Product>()
+                .name("stockWarmUpReader")
+                .repository(productRepository)
+                .methodName("findAllByPurchaseStartTimeBetween")
+                .arguments(from, from.plusMinutes(windowMinutes))
+                .pageSize(20)
+                .sorts(Collections.singletonMap("productId", org.springframework.data.domain.Sort.Direction.ASC))   // 정렬 기준
+                .build();
+    }
+
+    /**
+     * ItemWriter: 재고와 구매 가능 시간을 캐싱한다.
+     * 이미 캐싱된 재고는 주문 처리 중일 수 있으므로 덮어쓰지 않는다(SETNX).
+     */
+    @Bean
+    public ItemWriter<Product> stockWarmUpWriter() {
+        return products -> {
+            for (Product product : products) {
+                if (product.isFlashSale()) {
+                    // Flash Sale 상품 -> 재고를 샤드 단위로 캐싱
+                    shardedStockService.initShards(product.getProductId());
+                } else {
+                    // DB에 아직 반영되지 않은 재고 변경량을 빼고 캐싱
+                    redisTemplate.opsForValue().setIfAbsent(
+                            STOCK_KEY_PREFIX + product.getProductId(),
+                            String.valueOf(product.getStock() - stockJournal.getUnflushedDelta(product.getProductId()))
+                    );
+                }
+                redisTemplate.opsForValue().set(
+                        PURCHASE_KEY_PREFIX + product.getProductId(),
+                        product.getPurchaseStartTime().toString()
+                );
+            }
+            log.info(">>> 재고 캐싱 완료 - {}건", products.size());
         };
     }
 }
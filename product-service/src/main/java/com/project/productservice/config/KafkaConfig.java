@@ -1,5 +1,6 @@
 package com.project.productservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,9 +24,26 @@ public class KafkaConfig {
     @Value("${spring.kafka.producer.port}")
     private int kafkaPort;
 
+    @Value("${kafka.producer.profile:throughput}")
+    private String producerProfile;
+
+    @Value("${kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.producer.acks:all}")
+    private String acks;
+
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory, MeterRegistry meterRegistry) {
+        KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setProducerListener(new KafkaSendListener<>(meterRegistry));  // 전송 결과 Callback & 지표
+        return kafkaTemplate;
     }
 
     @Bean
@@ -34,11 +52,27 @@ public class KafkaConfig {
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaHost + ":" + kafkaPort);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
-        jsonSerializer.setAddTypeInfo(true);
+        config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, true);
+        applyProducerProfile(config);
 
         return new DefaultKafkaProducerFactory<>(config);
     }
 
-}
\ No newline at end of file
+    /**
+     * Producer 전송 설정 (kafka.producer.profile)
+     *
+     * - throughput(기본값): linger-ms 동안 이벤트를 batch-size까지 모아 압축(compression-type)하여 전송
+     * - latency: 이벤트를 모으지 않고 바로 전송하며 압축하지 않음
+     * acks=all이면 idempotent producer로 설정하여 재시도 시 이벤트가 중복 저장되거나 순서가 바뀌지 않도록 한다.
+     *
+     * @param config Producer 설정
+     */
+    private void applyProducerProfile(Map<String, Object> config) {
+        boolean latency = "latency".equalsIgnoreCase(producerProfile);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, latency ? 0 : lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, latency ? 16384 : batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, latency ? "none" : compressionType);
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "all".equals(acks));
+    }
+}
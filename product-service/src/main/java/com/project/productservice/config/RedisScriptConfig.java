@@ -0,0 +1,73 @@
+package com.project.productservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 재고 처리에 사용하는 Lua Script 등록
+ *
+ * RedisTemplate.execute()는 EVALSHA를 우선 시도하고, 스크립트가 캐싱되어 있지 않은 경우에만 EVAL로 전송한다.
+ */
+@Configuration
+public class RedisScriptConfig {
+
+    /* 재고 확인 및 감소 */
+    @Bean
+    public RedisScript<Long> reserveStockScript() {
+        return RedisScript.of(new ClassPathResource("scripts/reserve_stock.lua"), Long.class);
+    }
+
+    /* 재고 롤백 */
+    @Bean
+    public RedisScript<Long> rollbackStockScript() {
+        return RedisScript.of(new ClassPathResource("scripts/rollback_stock.lua"), Long.class);
+    }
+
+    /* 재고 샤드에서 가능한 만큼 재고 감소 */
+    @Bean
+    public RedisScript<Long> takeStockScript() {
+        return RedisScript.of(new ClassPathResource("scripts/take_stock.lua"), Long.class);
+    }
+
+    /* 샤딩된 재고 확인 및 감소 (모든 샤드에서 한 번에 가져옴) */
+    @Bean
+    public RedisScript<Long> reserveStockShardsScript() {
+        return RedisScript.of(new ClassPathResource("scripts/reserve_stock_shards.lua"), Long.class);
+    }
+
+    /* 재고 샤드 초기화 (단일 key -> 샤드) */
+    @Bean
+    public RedisScript<Long> initStockShardsScript() {
+        return RedisScript.of(new ClassPathResource("scripts/init_stock_shards.lua"), Long.class);
+    }
+
+    /* 재고 샤드 해제 (샤드 -> 단일 key) */
+    @Bean
+    public RedisScript<Long> mergeStockShardsScript() {
+        return RedisScript.of(new ClassPathResource("scripts/merge_stock_shards.lua"), Long.class);
+    }
+
+    /* 재고에 따라 품절 상태 갱신 */
+    @Bean
+    public RedisScript<Long> syncSoldOutScript() {
+        return RedisScript.of(new ClassPathResource("scripts/sync_sold_out.lua"), Long.class);
+    }
+
+    /* 여러 상품의 재고 확인 및 감소 (all-or-nothing) */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public RedisScript<List<Long>> reserveStockBatchScript() {
+        return (RedisScript<List<Long>>) (RedisScript<?>) RedisScript.of(new ClassPathResource("scripts/reserve_stock_batch.lua"), List.class);
+    }
+
+    /* 여러 상품의 재고 롤백 (all-or-nothing) */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public RedisScript<List<Long>> rollbackStockBatchScript() {
+        return (RedisScript<List<Long>>) (RedisScript<?>) RedisScript.of(new ClassPathResource("scripts/rollback_stock_batch.lua"), List.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.productservice.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 작업 실행 스레드 풀 설정
+ *
+ * 상품 서비스의 주기 작업은 StockJournal의 재고 변경량 일괄 반영(flush)과 StockReconciler의 Redis-DB 재고 검사이다.
+ * 기본 스케줄러는 스레드가 하나뿐이라, DB가 느려져 재고 검사가 길어지면 flush도 함께 밀려 반영되지 않은 변경량이 계속 쌓인다.
+ * flush가 검사를 기다리지 않도록 pool-size개의 스레드를 가진 스케줄러를 사용한다.
+ * (스케줄러를 Bean으로 등록하면 Executor Bean으로도 인식되어 기본 TaskExecutor 자동 설정이 꺼지므로 Bean으로 등록하지 않는다.)
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${product.scheduling.pool-size:4}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("product-scheduler-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+        taskScheduler.initialize();
+        taskRegistrar.setTaskScheduler(taskScheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+}
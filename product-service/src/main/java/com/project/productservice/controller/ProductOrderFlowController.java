@@ -1,15 +1,25 @@
 package com.project.productservice.controller;
 
+import com.project.productservice.dto.StockRequestDto;
+import com.project.productservice.dto.StockResponseDto;
 import com.project.productservice.service.ProductOrderFlowService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 주문과 관련된 상품 관리 기능을 제공하는 Controller
+ *
+ * 요청 본문의 목록(List<StockRequestDto>)은 @Valid만으로는 각 요소가 검증되지 않으므로 @Validated로 검증한다.
  */
 @Slf4j
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/order-flow")
@@ -48,10 +58,25 @@ public class ProductOrderFlowController {
         return ResponseEntity.ok("재고 감소 처리가 완료되었습니다.");
     }
 
+    /* 여러 상품의 재고 수량 감소 (all-or-nothing) */
+    @PostMapping("/reduce-stock/batch")
+    public ResponseEntity<List<StockResponseDto>> reduceStockBatch(@Valid @RequestBody List<StockRequestDto> stockRequestList) {
+        List<StockResponseDto> stockResponseList = productOrderFlowService.reduceStockBatch(stockRequestList);
+        boolean isReserved = stockResponseList.stream().allMatch(StockResponseDto::isReserved);
+        return ResponseEntity.status(isReserved ? HttpStatus.OK : HttpStatus.BAD_REQUEST).body(stockResponseList);
+    }
+
     /* 재고 수량 증가 (주문 실패 시) */
     @PostMapping("/rollback-stock")
     public ResponseEntity rollbackStock(@RequestParam Long productId, @RequestParam int quantity) {
         productOrderFlowService.rollbackStock(productId, quantity);
         return ResponseEntity.ok("재고 증가 처리가 완료되었습니다.");
     }
+
+    /* 여러 상품의 재고 수량 증가 (주문 실패 시) */
+    @PostMapping("/rollback-stock/batch")
+    public ResponseEntity<List<StockResponseDto>> rollbackStockBatch(@Valid @RequestBody List<StockRequestDto> stockRequestList) {
+        List<StockResponseDto> stockResponseList = productOrderFlowService.rollbackStockBatch(stockRequestList);
+        return ResponseEntity.ok(stockResponseList);
+    }
 }
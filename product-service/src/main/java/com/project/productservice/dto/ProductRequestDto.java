@@ -15,4 +15,5 @@ public class ProductRequestDto {
     private int stock;
     @NotNull
     private String category;
+    private boolean flashSale = false;
 }
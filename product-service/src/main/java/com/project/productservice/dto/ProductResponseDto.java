@@ -14,6 +14,7 @@ public class ProductResponseDto {
     private int unitPrice;
     private int stock;
     private String category;
+    private boolean flashSale;
 
     public ProductResponseDto(Product product) {
         this.productId = product.getProductId();
@@ -21,5 +22,6 @@ public class ProductResponseDto {
         this.unitPrice = product.getUnitPrice();
         this.stock = product.getStock();
         this.category = product.getCategory();
+        this.flashSale = product.isFlashSale();
     }
 }
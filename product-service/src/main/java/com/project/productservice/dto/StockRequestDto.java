@@ -0,0 +1,19 @@
+package com.project.productservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockRequestDto {
+    @NotNull
+    private Long productId;
+    @Min(1)
+    private int quantity;
+}
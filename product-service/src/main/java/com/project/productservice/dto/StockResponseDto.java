@@ -0,0 +1,17 @@
+package com.project.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockResponseDto {
+    private Long productId;
+    private int quantity;
+    private long remainingStock;    //처리 후 재고 (재고 부족 시 현재 재고)
+    private boolean reserved;       //재고 처리 성공 여부
+}
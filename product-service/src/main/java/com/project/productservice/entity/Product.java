@@ -32,4 +32,7 @@ public class Product extends Timestamped implements Serializable {
 
     @Column(name = "purchase_start_time")
     private LocalDateTime purchaseStartTime = LocalDateTime.now();
+
+    @Column(name = "flash_sale", nullable = false)
+    private boolean flashSale = false;    //재고 샤딩 대상(Flash Sale 상품) 여부
 }
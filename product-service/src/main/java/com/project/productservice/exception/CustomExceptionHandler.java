@@ -1,7 +1,9 @@
 package com.project.productservice.exception;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,6 +18,12 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return ErrorResponseEntity.toResponseEntity(e.getErrorCode());
     }
 
+    // @Validated 컨트롤러의 요청 값 검증 실패
+    @ExceptionHandler(ConstraintViolationException.class)
+    protected ResponseEntity<ErrorResponseEntity> handleConstraintViolationException(ConstraintViolationException e) {
+        return ErrorResponseEntity.toResponseEntity(HttpStatus.BAD_REQUEST, "CONSTRAINT_VIOLATION", "SERVER-003", e.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponseEntity> handleGeneralException(Exception e) {
         ErrorCode errorCode = ErrorCode.GENERAL_EXCEPTION;
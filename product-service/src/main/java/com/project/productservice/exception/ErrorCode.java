@@ -10,6 +10,8 @@ public enum ErrorCode {
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "PRODUCT-001", "상품을 찾을 수 없습니다."),
     PURCHASE_TIME_INVALID(HttpStatus.FORBIDDEN, "PRODUCT-002", "현재 구매가 불가능한 상품이 포함되어 있습니다."),
     STOCK_INSUFFICIENT(HttpStatus.BAD_REQUEST, "PRODUCT-003", "재고가 부족합니다."),
+    STOCK_CACHE_MISS(HttpStatus.SERVICE_UNAVAILABLE, "PRODUCT-004", "재고 정보를 갱신하는 중입니다. 잠시 후 다시 시도해주세요."),
+    INVALID_STOCK_QUANTITY(HttpStatus.BAD_REQUEST, "PRODUCT-005", "재고 처리 수량은 1 이상이어야 합니다."),
 
     GENERAL_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER-001", "서버 오류가 발생했습니다."),
     DATA_ACCESS_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER-002", "데이터베이스 오류가 발생했습니다."),
@@ -6,10 +6,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -25,6 +29,27 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :productId")
     Optional<Product> findByIdWithLock(@Param("productId") Long productId);
 
+    /**
+     * 상품 재고 증감 (누적된 변경량을 한 번의 UPDATE로 반영)
+     *
+     * @param productId 재고를 변경할 상품의 ID
+     * @param delta 감소시킬 재고 수량 (음수이면 증가)
+     * @return 변경된 row 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :delta WHERE p.productId = :productId")
+    int decreaseStock(@Param("productId") Long productId, @Param("delta") long delta);
+
+    /**
+     * 여러 상품의 재고 & Flash Sale 여부 조회
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @return [상품 ID, 재고, Flash Sale 여부] 목록
+     */
+    @Query("SELECT p.productId, p.stock, p.flashSale FROM Product p WHERE p.productId IN :productIds")
+    List<Object[]> findStocksByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
     /**
      * 전체 상품 조회 + 페이징 처리
      * 
@@ -33,6 +58,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Page<Product> findAll(Pageable pageable);
 
+    /**
+     * [페이징 처리] 구매 시작 시간이 주어진 기간에 속하는 상품 목록 조회
+     *
+     * @param from 기간 시작 시점
+     * @param to 기간 종료 시점
+     * @param pageable
+     * @return 해당 기간에 구매가 시작되는 상품 목록
+     */
+    Page<Product> findAllByPurchaseStartTimeBetween(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
     /**
      * 카테고리별 상품 조회 + 페이징 처리
      * 
@@ -7,6 +7,7 @@ import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -18,9 +19,13 @@ import java.time.LocalDateTime;
 public class BatchScheduler {
 
     private final String JOB_NAME = "productSyncJob";
+    private final String WARM_UP_JOB_NAME = "stockWarmUpJob";
     private final JobLauncher jobLauncher;
     private final JobRegistry jobRegistry;
 
+    @Value("${product.warm-up.window-minutes:30}")
+    private long warmUpWindowMinutes;
+
     @Scheduled(cron = "0 0 3 * * *")  // 매일 새벽 3시 실행
     public void runUpdateOrderStatusJob() {
         try {
@@ -35,4 +40,24 @@ public class BatchScheduler {
             log.error(">>> Redis - DB 동기화 작업 실행 중 오류 발생", e);
         }
     }
+
+    /**
+     * 판매 시작 전 재고 캐싱
+     * 구매 시작 시간이 다가오는 상품의 재고와 구매 가능 시간을 미리 캐싱하여 판매 시작 직후의 캐시 미스를 방지한다.
+     */
+    @Scheduled(cron = "${product.warm-up.cron:0 */10 * * * *}")  // 기본 10분마다 실행
+    public void runStockWarmUpJob() {
+        try {
+            Job job = jobRegistry.getJob(WARM_UP_JOB_NAME);
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("time", LocalDateTime.now().toString())
+                    .addLong("windowMinutes", warmUpWindowMinutes)
+                    .toJobParameters();
+
+            jobLauncher.run(job, jobParameters);
+            log.info(">>> 판매 시작 전 재고 캐싱 작업 실행 완료");
+        } catch (Exception e) {
+            log.error(">>> 판매 시작 전 재고 캐싱 작업 실행 중 오류 발생", e);
+        }
+    }
 }
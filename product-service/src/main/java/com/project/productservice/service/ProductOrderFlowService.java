@@ -1,32 +1,53 @@
 package com.project.productservice.service;
 
+import com.project.productservice.dto.StockRequestDto;
+import com.project.productservice.dto.StockResponseDto;
 import com.project.productservice.entity.Product;
 import com.project.productservice.exception.CustomException;
 import com.project.productservice.exception.ErrorCode;
 import com.project.productservice.repository.ProductRepository;
+import com.project.productservice.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-@EnableAsync
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductOrderFlowService {
 
     private final ProductRepository productRepository;
-    private final ProductService productService;
+    private final StockJournal stockJournal;
+    private final PurchaseTimeNearCache purchaseTimeNearCache;
+    private final ShardedStockService shardedStockService;
+    private final SoldOutPublisher soldOutPublisher;
+    private final SingleFlight<Long, Product> productLoader = new SingleFlight<>();
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> reserveStockScript;
+    private final RedisScript<Long> rollbackStockScript;
+    private final RedisScript<List<Long>> reserveStockBatchScript;
+    private final RedisScript<List<Long>> rollbackStockBatchScript;
 
     private static final String STOCK_KEY_PREFIX = "stock_ID: ";
     private static final String PURCHASE_KEY_PREFIX = "purchase_start_time_ID: ";
 
+    // Lua Script 반환 코드
+    private static final long STOCK_INSUFFICIENT = -1L;
+    private static final long CACHE_MISS = -2L;
+    private static final long BATCH_SUCCESS = 1L;
+
     /**
      * 주문 가능 여부 확인 (주문 요청 시)
      *
@@ -51,30 +72,36 @@ public class ProductOrderFlowService {
     /**
      * 구매 가능 시간 확인
      *
+     * 구매 가능 시간은 Near Cache(애플리케이션 메모리)를 우선 조회하고, 없을 경우 Redis 캐시 또는 데이터베이스에서 조회한다.
+     *
      * @param productId 확인을 요청한 상품의 ID
      * @return 현재 구매 가능 시점이면 true, 그렇지 않으면 false
      */
     public boolean checkPurchaseTime(Long productId) {
+        long purchaseStartMillis = purchaseTimeNearCache.get(productId, this::loadPurchaseStartMillis);
+
+        if (System.currentTimeMillis() > purchaseStartMillis) {
+            return true;
+        }
+
+        throw new CustomException(ErrorCode.PURCHASE_TIME_INVALID);
+    }
+
+    /* Redis 캐시(없을 경우 데이터베이스)에서 구매 가능 시간 조회 */
+    private long loadPurchaseStartMillis(Long productId) {
         String purchaseStartTimeKey = PURCHASE_KEY_PREFIX + productId;
         String purchaseStartTimeStr = redisTemplate.opsForValue().get(purchaseStartTimeKey);
 
         LocalDateTime purchaseStartTime;
 
         if (purchaseStartTimeStr == null) {
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+            Product product = loadProduct(productId);
             purchaseStartTime = product.getPurchaseStartTime();
-
-            redisTemplate.opsForValue().set(purchaseStartTimeKey, purchaseStartTime.toString());
         } else {
             purchaseStartTime = LocalDateTime.parse(purchaseStartTimeStr);
         }
 
-        if (LocalDateTime.now().isAfter(purchaseStartTime)) {
-            return true;
-        }
-
-        throw new CustomException(ErrorCode.PURCHASE_TIME_INVALID);
+        return purchaseStartTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     /**
@@ -86,19 +113,20 @@ public class ProductOrderFlowService {
      */
     public boolean checkStock(Long productId, int quantity) {
         // 1. 캐시 조회
-        String stockKey = STOCK_KEY_PREFIX + productId;
-        String stockValue = redisTemplate.opsForValue().get(stockKey);
-
-        int stock;
+        long stock;
 
-        if (stockValue != null) {
-            stock = Integer.parseInt(stockValue);
+        if (shardedStockService.isSharded(productId)) {
+            // Flash Sale 상품 -> 모든 샤드의 재고 합산
+            stock = shardedStockService.getStock(productId);
         } else {
-            // 2. 캐시에 재고 정보가 없는 경우 -> 캐싱
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-            stock = product.getStock();
-            redisTemplate.opsForValue().set(stockKey, String.valueOf(stock));
+            String stockValue = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
+            if (stockValue != null) {
+                stock = Integer.parseInt(stockValue);
+            } else {
+                // 2. 캐시에 재고 정보가 없는 경우 -> 캐싱
+                Product product = loadProduct(productId);
+                stock = product.getStock();
+            }
         }
 
         // 3. 재고 확인
@@ -106,6 +134,9 @@ public class ProductOrderFlowService {
             return true;
         }
 
+        if (stock <= 0) {
+            soldOutPublisher.refresh(productId);
+        }
         log.error("STOCK_INSUFFICIENT");
         throw new CustomException(ErrorCode.STOCK_INSUFFICIENT);
     }
@@ -113,8 +144,9 @@ public class ProductOrderFlowService {
     /**
      * 상품의 재고 수량 감소
      *
-     * Redis 캐시에 저장된 재고를 우선적으로 조회하고, 캐시에 값이 없을 경우 데이터베이스에서 조회힌 후 캐싱한다.
-     * Redis 캐시에 저장된 재고를 우선적으로 감소시키고, 이후 비동기적으로 데이터베이스의 재고를 업데이트한다.
+     * Lua Script를 통해 Redis 캐시의 재고 확인과 감소를 한 번의 요청으로 원자적으로 처리한다.
+     * 캐시에 값이 없을 경우 데이터베이스에서 조회한 후 캐싱(SETNX)하고 다시 시도한다.
+     * Redis 캐시에 저장된 재고를 우선적으로 감소시키고, 데이터베이스의 재고는 StockJournal에 누적한 뒤 일괄 반영한다.
      *
      * @param productId 감소시킬 상품의 ID
      * @param quantity 감소시킬 재고 수량
@@ -125,44 +157,30 @@ public class ProductOrderFlowService {
         String stockKey = STOCK_KEY_PREFIX + productId;
 
         // 1. REDIS 재고 감소
-        String stockValue = redisTemplate.opsForValue().get(stockKey);
-        int stock;
-
-        if (stockValue != null) {
-            stock = Integer.parseInt(stockValue);
-            if (stock < quantity) {
+        if (shardedStockService.isSharded(productId)) {
+            // Flash Sale 상품 -> 샤딩된 재고 감소
+            long remaining = shardedStockService.reduceStock(productId, quantity);
+            if (remaining == STOCK_INSUFFICIENT) {
                 throw new CustomException(ErrorCode.STOCK_INSUFFICIENT);
             }
-            redisTemplate.opsForValue().decrement(stockKey, quantity);
-            log.info("REDIS STOCK REDUCE - KEY: {}, VALUE: {}", stockKey, stock-quantity);
-        } else {
-            // 캐시에 값이 없을 경우 -> 데이터베이스에서 재고 조회 후 캐싱
-            stock = productService.getProductStock(productId) - quantity;
-            if (stock < 0) {
-                throw new CustomException(ErrorCode.STOCK_INSUFFICIENT);
+            if (remaining == 0) {
+                soldOutPublisher.refresh(productId);
             }
-            redisTemplate.opsForValue().set(stockKey, String.valueOf(stock));
-            log.info("REDIS STOCK SET - KEY: {}, VALUE: {}", stockKey, stock);
+            stockJournal.reduce(productId, quantity);
+            return;
         }
 
-        // 2. DB 재고 감소 (비동기)
-        reduceDatabaseStockAsync(productId, quantity);
-    }
-
-    /* DB 재고 감소 (비동기) */
-    @Async
-    public void reduceDatabaseStockAsync(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        int updateStock = product.getStock() - quantity;
-        if (updateStock < 0) {
+        long remaining = executeStockScript(reserveStockScript, productId, quantity);
+        if (remaining == STOCK_INSUFFICIENT) {
             throw new CustomException(ErrorCode.STOCK_INSUFFICIENT);
         }
+        log.info("REDIS STOCK REDUCE - KEY: {}, VALUE: {}", stockKey, remaining);
+        if (remaining == 0) {
+            soldOutPublisher.refresh(productId);
+        }
 
-        product.setStock(updateStock);
-        productRepository.save(product);
-        log.info("[ASYNC] DB STOCK REDUCE - ID: {}, VALUE: {}", product.getProductId(), product.getStock());
+        // 2. DB 재고 감소 (Write-Behind)
+        stockJournal.reduce(productId, quantity);
     }
 
     /**
@@ -170,7 +188,7 @@ public class ProductOrderFlowService {
      *
      * 주문 실패, 결제 실패, 주문 취소 또는 반품 승인 시 해당 상품의 재고를 롤백한다.
      * Redis 캐시에 저장된 재고를 우선적으로 조회하고, 캐시에 값이 없을 경우 데이터베이스에서 조회힌 후 캐싱한다.
-     * Redis 캐시에 저장된 재고를 우선적으로 롤백(증가)시키고, 이후 비동기적으로 데이터베이스의 재고를 업데이트한다.
+     * Redis 캐시에 저장된 재고를 우선적으로 롤백(증가)시키고, 데이터베이스의 재고는 StockJournal에 누적한 뒤 일괄 반영한다.
      *
      * @param productId 롤백(증가)시킬 상품의 ID
      * @param quantity 롤백(증가)시킬 상품의 수량
@@ -180,32 +198,261 @@ public class ProductOrderFlowService {
         String stockKey = STOCK_KEY_PREFIX + productId;
 
         // 1. REDIS 재고 롤백
-        String stockValue = redisTemplate.opsForValue().get(stockKey);
-        int stock;
+        if (shardedStockService.isSharded(productId)) {
+            // Flash Sale 상품 -> 샤딩된 재고 롤백
+            shardedStockService.rollbackStock(productId, quantity);
+            soldOutPublisher.refresh(productId);
+            stockJournal.rollback(productId, quantity);
+            return;
+        }
 
-        if (stockValue != null) {
-            stock = Integer.parseInt(stockValue);
-            redisTemplate.opsForValue().increment(stockKey, quantity);
-            log.info("REDIS STOCK ROLLBACK - KEY: {}, VALUE: {}", productId, stock+quantity);
-        } else {
-            // 캐시에 값이 없을 경우 -> 데이터베이스에서 재고 조회 후 캐싱
-            int rollbackStock = productService.getProductStock(productId) + quantity;
-            redisTemplate.opsForValue().set(stockKey, String.valueOf(rollbackStock));
-            log.info("REDIS STOCK SET - KEY: {}, VALUE: {}", stockKey, rollbackStock);
+        long rollbackStock = executeStockScript(rollbackStockScript, productId, quantity);
+        log.info("REDIS STOCK ROLLBACK - KEY: {}, VALUE: {}", stockKey, rollbackStock);
+        soldOutPublisher.refresh(productId);
+
+        // 2. DB 재고 롤백 (Write-Behind)
+        stockJournal.rollback(productId, quantity);
+    }
+
+    /**
+     * 재고 Lua Script 실행
+     *
+     * 캐시에 재고 정보가 없는 경우(CACHE_MISS) 데이터베이스의 재고를 SETNX로 캐싱한 뒤 스크립트를 다시 실행한다.
+     * SETNX를 사용하므로 다른 요청이 먼저 캐싱한 값을 덮어쓰지 않는다.
+     * 다시 실행해도 캐시에 없으면 그 사이 Flash Sale 상품(샤딩된 재고)으로 변경된 것이므로,
+     * Flash Sale 여부를 다시 조회하도록 하고 재시도 가능한 예외로 실패한다.
+     *
+     * @param script 실행할 Lua Script
+     * @param productId 대상 상품의 ID
+     * @param quantity 감소 또는 증가시킬 수량
+     * @return 스크립트 실행 결과 (처리 후 재고 또는 STOCK_INSUFFICIENT)
+     * @throws CustomException 샤딩된 재고로 변경되었거나 스크립트 응답이 없는 경우 STOCK_CACHE_MISS 예외 발생
+     */
+    private long executeStockScript(RedisScript<Long> script, Long productId, int quantity) {
+        String stockKey = STOCK_KEY_PREFIX + productId;
+        List<String> keys = Collections.singletonList(stockKey);
+
+        Long result = requireResult(redisTemplate.execute(script, keys, String.valueOf(quantity)), productId);
+        if (result != CACHE_MISS) {
+            return result;
         }
 
-        // 2. DB 재고 롤백 (비동기)
-        rollbackDatabaseStockAsync(productId, quantity);
+        // 캐시에 값이 없을 경우 -> 데이터베이스에서 재고 조회 후 캐싱
+        loadProduct(productId);
+
+        result = requireResult(redisTemplate.execute(script, keys, String.valueOf(quantity)), productId);
+        if (result == CACHE_MISS) {
+            shardedStockService.evictFlag(productId);
+            throw new CustomException(ErrorCode.STOCK_CACHE_MISS);
+        }
+        return result;
     }
 
-    /* DB 재고 롤백 (비동기) */
-    @Async
-    public void rollbackDatabaseStockAsync(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+    /* 스크립트 응답이 없으면(ex. 파이프라인/트랜잭션 모드) 재고 처리 여부를 알 수 없으므로 재시도 가능한 예외로 실패 */
+    private <T> T requireResult(T result, Object target) {
+        if (result == null) {
+            log.error("REDIS STOCK SCRIPT NO REPLY - {}", target);
+            throw new CustomException(ErrorCode.STOCK_CACHE_MISS);
+        }
+        return result;
+    }
 
-        product.setStock(product.getStock() + quantity);
-        productRepository.save(product);
-        log.info("[ASYNC] DB STOCK ROLLBACK - ID: {}, VALUE: {}", product.getProductId(), product.getStock());
+    /**
+     * 여러 상품의 재고 수량 감소 (all-or-nothing)
+     *
+     * 주문에 포함된 모든 상품의 재고를 하나의 Lua Script로 확인하고 감소시킨다.
+     * 하나라도 재고가 부족하면 어떤 상품의 재고도 감소시키지 않는다.
+     * 같은 상품이 여러 번 포함된 경우 수량을 합산하여 처리한다.
+     * Flash Sale 상품(샤딩된 재고)은 Lua Script 처리 이후 상품별로 따로 감소시키며, 실패 시 앞서 감소시킨 재고를 모두 롤백한다.
+     * 품절 상태는 Lua Script가 반환한 감소 후 재고가 0인 경우에만 변경한다.
+     *
+     * @param stockRequestList 재고를 감소시킬 상품 목록
+     * @return 상품별 재고 처리 결과
+     */
+    @Transactional
+    public List<StockResponseDto> reduceStockBatch(List<StockRequestDto> stockRequestList) {
+        Map<Long, Integer> quantities = mergeQuantities(stockRequestList);
+        Map<Long, Integer> shardedQuantities = extractShardedQuantities(quantities);
+
+        // 1. REDIS 재고 감소
+        List<Long> result = executeStockBatchScript(reserveStockBatchScript, quantities);
+        boolean reserved = result.get(0) == BATCH_SUCCESS;
+
+        // 1-1. Flash Sale 상품 재고 감소 (상품별 감소 후 전체 재고)
+        Map<Long, Long> shardedRemaining = new LinkedHashMap<>();
+        if (reserved) {
+            for (Map.Entry<Long, Integer> entry : shardedQuantities.entrySet()) {
+                long remaining = shardedStockService.reduceStock(entry.getKey(), entry.getValue());
+                if (remaining == STOCK_INSUFFICIENT) {
+                    reserved = false;
+                    break;
+                }
+                shardedRemaining.put(entry.getKey(), remaining);
+            }
+
+            if (!reserved) {
+                // 재고 부족 -> 앞서 감소시킨 재고 롤백 (그 사이 품절 처리되었다면 해제)
+                shardedRemaining.keySet().forEach(productId -> {
+                    shardedStockService.rollbackStock(productId, shardedQuantities.get(productId));
+                    soldOutPublisher.refresh(productId);
+                });
+                executeStockBatchScript(rollbackStockBatchScript, quantities);
+            }
+        }
+
+        final boolean reservedAll = reserved;
+        List<StockResponseDto> stockResponseList = toStockResponseList(quantities, result, reservedAll);
+        shardedQuantities.forEach((productId, quantity) -> stockResponseList.add(new StockResponseDto(productId, quantity,
+                reservedAll ? shardedRemaining.get(productId) : shardedStockService.getStock(productId), reservedAll)));
+
+        if (!reservedAll) {
+            log.error("STOCK_INSUFFICIENT - {}, {}", quantities.keySet(), shardedQuantities.keySet());
+            return stockResponseList;
+        }
+        log.info("REDIS STOCK BATCH REDUCE - IDS: {}, {}", quantities.keySet(), shardedQuantities.keySet());
+        stockResponseList.stream()
+                .filter(stockResponse -> stockResponse.getRemainingStock() <= 0)
+                .forEach(stockResponse -> soldOutPublisher.refresh(stockResponse.getProductId()));
+
+        // 2. DB 재고 감소 (Write-Behind)
+        quantities.forEach(stockJournal::reduce);
+        shardedQuantities.forEach(stockJournal::reduce);
+
+        return stockResponseList;
+    }
+
+    /**
+     * 여러 상품의 재고 수량 증가 (all-or-nothing)
+     *
+     * 주문 실패, 결제 실패, 주문 취소 또는 반품 승인 시 주문에 포함된 모든 상품의 재고를 하나의 Lua Script로 롤백한다.
+     * Flash Sale 상품(샤딩된 재고)은 따로 롤백한다.
+     *
+     * @param stockRequestList 재고를 롤백(증가)시킬 상품 목록
+     * @return 상품별 재고 처리 결과
+     */
+    @Transactional
+    public List<StockResponseDto> rollbackStockBatch(List<StockRequestDto> stockRequestList) {
+        Map<Long, Integer> quantities = mergeQuantities(stockRequestList);
+        Map<Long, Integer> shardedQuantities = extractShardedQuantities(quantities);
+
+        // 1. REDIS 재고 롤백
+        List<Long> result = executeStockBatchScript(rollbackStockBatchScript, quantities);
+        shardedQuantities.forEach(shardedStockService::rollbackStock);
+        log.info("REDIS STOCK BATCH ROLLBACK - IDS: {}, {}", quantities.keySet(), shardedQuantities.keySet());
+        quantities.keySet().forEach(soldOutPublisher::refresh);
+        shardedQuantities.keySet().forEach(soldOutPublisher::refresh);
+
+        // 2. DB 재고 롤백 (Write-Behind)
+        quantities.forEach(stockJournal::rollback);
+        shardedQuantities.forEach(stockJournal::rollback);
+
+        List<StockResponseDto> stockResponseList = toStockResponseList(quantities, result, true);
+        shardedQuantities.forEach((productId, quantity) -> stockResponseList.add(
+                new StockResponseDto(productId, quantity, shardedStockService.getStock(productId), true)));
+        return stockResponseList;
+    }
+
+    /**
+     * 재고 Batch Lua Script 실행
+     *
+     * 캐시에 재고 정보가 없는 상품이 있는 경우(CACHE_MISS) 해당 상품들의 재고를 SETNX로 캐싱한 뒤 스크립트를 다시 실행한다.
+     * 다시 실행해도 캐시에 없는 상품은 그 사이 Flash Sale 상품으로 변경된 것이므로, 재시도 가능한 예외로 실패한다.
+     *
+     * @param script 실행할 Lua Script
+     * @param quantities 상품 ID별 수량
+     * @return 스크립트 실행 결과 (첫 번째 값은 처리 결과 코드, 이후 값은 상품별 처리 후 재고)
+     */
+    private List<Long> executeStockBatchScript(RedisScript<List<Long>> script, Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<String> keys = productIds.stream()
+                .map(productId -> STOCK_KEY_PREFIX + productId)
+                .collect(Collectors.toList());
+        Object[] args = quantities.values().stream()
+                .map(String::valueOf)
+                .toArray();
+
+        List<Long> result = requireResult(redisTemplate.execute(script, keys, args), quantities.keySet());
+        if (result.get(0) != CACHE_MISS) {
+            return result;
+        }
+
+        // 캐시에 값이 없는 상품 -> 데이터베이스에서 재고 조회 후 캐싱
+        for (Long index : result.subList(1, result.size())) {
+            loadProduct(productIds.get(index.intValue() - 1));
+        }
+
+        result = requireResult(redisTemplate.execute(script, keys, args), quantities.keySet());
+        if (result.get(0) == CACHE_MISS) {
+            result.subList(1, result.size())
+                    .forEach(index -> shardedStockService.evictFlag(productIds.get(index.intValue() - 1)));
+            throw new CustomException(ErrorCode.STOCK_CACHE_MISS);
+        }
+        return result;
+    }
+
+    /**
+     * 캐시에 없는 상품 정보를 데이터베이스에서 조회한 후 캐싱
+     *
+     * 같은 상품에 대한 동시 캐시 미스는 SingleFlight로 합쳐 데이터베이스 조회가 한 번만 일어나도록 한다.
+     * 재고와 구매 가능 시간을 함께 캐싱하며, SETNX를 사용하므로 다른 요청이 먼저 캐싱한 값을 덮어쓰지 않는다.
+     * 재고는 DB 재고에서 StockJournal에 누적되어 아직 반영되지 않은 변경량을 뺀 값으로 캐싱한다.
+     *
+     * @param productId 조회할 상품의 ID
+     * @return 데이터베이스에서 조회한 상품
+     */
+    private Product loadProduct(Long productId) {
+        return productLoader.execute(productId, id -> {
+            Product product = productRepository.findById(id)
+                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            // Flash Sale 상품의 재고는 ShardedStockService에서 샤드 단위로 캐싱
+            // DB에 아직 반영되지 않은 재고 변경량을 빼고 캐싱 (이미 판매된 재고가 되살아나지 않도록)
+            if (!product.isFlashSale()) {
+                long stock = product.getStock() - stockJournal.getUnflushedDelta(id);
+                redisTemplate.opsForValue().setIfAbsent(STOCK_KEY_PREFIX + id, String.valueOf(stock));
+                log.info("REDIS STOCK SET - KEY: {}, VALUE: {}", STOCK_KEY_PREFIX + id, stock);
+            }
+            redisTemplate.opsForValue().setIfAbsent(PURCHASE_KEY_PREFIX + id, product.getPurchaseStartTime().toString());
+
+            return product;
+        });
+    }
+
+    /* Flash Sale 상품(샤딩된 재고)의 수량을 분리 */
+    private Map<Long, Integer> extractShardedQuantities(Map<Long, Integer> quantities) {
+        Map<Long, Integer> shardedQuantities = new LinkedHashMap<>();
+        quantities.entrySet().removeIf(entry -> {
+            if (shardedStockService.isSharded(entry.getKey())) {
+                shardedQuantities.put(entry.getKey(), entry.getValue());
+                return true;
+            }
+            return false;
+        });
+        return shardedQuantities;
+    }
+
+    /* 상품 ID별 수량 합산 (요청 순서 유지, 0 이하의 수량은 재고를 반대로 변경하므로 거절) */
+    private Map<Long, Integer> mergeQuantities(List<StockRequestDto> stockRequestList) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (StockRequestDto stockRequest : stockRequestList) {
+            if (stockRequest.getQuantity() < 1) {
+                throw new CustomException(ErrorCode.INVALID_STOCK_QUANTITY);
+            }
+            quantities.merge(stockRequest.getProductId(), stockRequest.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /* Lua Script 실행 결과 -> 상품별 재고 처리 결과 */
+    private List<StockResponseDto> toStockResponseList(Map<Long, Integer> quantities, List<Long> result, boolean reserved) {
+        List<StockResponseDto> stockResponseList = new ArrayList<>();
+        int index = 1;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            long stock = result.get(index++);
+            // 재고 감소에 실패한 경우 -> 감소 전 재고
+            long remainingStock = reserved ? stock : stock + entry.getValue();
+            stockResponseList.add(new StockResponseDto(entry.getKey(), entry.getValue(), remainingStock, reserved));
+        }
+        return stockResponseList;
     }
 }
@@ -11,9 +11,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +30,12 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SoldOutPublisher soldOutPublisher;
+    private final ShardedStockService shardedStockService;
+    private final RedisScript<Long> rollbackStockScript;
+
+    private static final String STOCK_KEY_PREFIX = "stock_ID: ";
 
     /**
      * 상품 등록
@@ -37,6 +49,7 @@ public class ProductService {
         product.setUnitPrice(productRequestDto.getUnitPrice());
         product.setStock(productRequestDto.getStock());
         product.setCategory(productRequestDto.getCategory());
+        product.setFlashSale(productRequestDto.isFlashSale());
 
         productRepository.save(product);
         return new ProductResponseDto(product);
@@ -44,23 +57,80 @@ public class ProductService {
 
     /**
      * 상품 수정
-     * 
+     *
+     * 재고 변경량을 정확히 구하기 위해 StockJournal의 DB 반영(UPDATE)과 겹치지 않도록 상품에 락을 걸고 조회한다.
+     * Redis 재고는 DB 재고로 덮어쓰지 않고, 커밋 후 재고 변경량만큼 원자적으로 증감한다.
+     * (Redis 재고에는 아직 DB에 반영되지 않은 주문이 포함되어 있으므로)
+     *
      * @param productId 수정하려는 상품의 ID
      * @param productRequestDto 수정하려는 상품 정보
      * @return 수정된 상품 정보
      */
+    @Transactional
     public ProductResponseDto updateProduct(Long productId, ProductRequestDto productRequestDto) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+        boolean wasFlashSale = product.isFlashSale();
+        long stockDelta = (long) productRequestDto.getStock() - product.getStock();
         product.setName(productRequestDto.getName());
         product.setUnitPrice(productRequestDto.getUnitPrice());
         product.setStock(productRequestDto.getStock());
         product.setCategory(productRequestDto.getCategory());
+        product.setFlashSale(productRequestDto.isFlashSale());
 
         productRepository.save(product);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyToCache(product, wasFlashSale, stockDelta);
+            }
+        });
         return new ProductResponseDto(product);
     }
 
+    /**
+     * 상품 수정 사항 Redis 반영 (트랜잭션 커밋 후)
+     *
+     * 1. 재고 변경량을 기존 저장 방식(단일 key 또는 샤드)의 재고에 더함 (캐싱되지 않은 상품은 다음 조회 시 DB에서 캐싱)
+     * 2. Flash Sale 여부가 바뀌면 남은 재고를 단일 key <-> 샤드로 옮김
+     * 3. 다른 인스턴스의 Near Cache 무효화 & 품절 상태 갱신
+     *
+     * @param product 수정된 상품
+     * @param wasFlashSale 수정 전 Flash Sale 여부
+     * @param stockDelta 증가시킬 재고 수량 (음수이면 감소)
+     */
+    private void applyToCache(Product product, boolean wasFlashSale, long stockDelta) {
+        Long productId = product.getProductId();
+
+        if (stockDelta != 0) {
+            if (wasFlashSale) {
+                long adjusted = shardedStockService.adjustStock(productId, stockDelta);
+                if (adjusted != stockDelta && shardedStockService.getCachedStock(productId) != null) {
+                    log.warn("REDIS STOCK ADJUST PARTIAL - ID: {}, DELTA: {}, ADJUSTED: {}", productId, stockDelta, adjusted);
+                }
+            } else {
+                redisTemplate.execute(rollbackStockScript,
+                        Collections.singletonList(STOCK_KEY_PREFIX + productId), String.valueOf(stockDelta));
+            }
+        }
+
+        // Flash Sale 여부가 바뀌면 남은 재고를 단일 key <-> 샤드로 옮김
+        if (wasFlashSale != product.isFlashSale()) {
+            if (product.isFlashSale()) {
+                shardedStockService.initShards(productId);
+            } else {
+                shardedStockService.mergeShards(productId);
+            }
+        }
+
+        // 다른 인스턴스의 Near Cache 무효화
+        publishInvalidation(productId);
+
+        // 품절 상태 갱신 (캐싱되지 않은 상품은 DB 재고 기준)
+        soldOutPublisher.refresh(productId, (long) product.getStock());
+    }
+
     /**
      * 상품 삭제
      *
@@ -68,6 +138,12 @@ public class ProductService {
      */
     public void deleteProduct(Long productId) {
         productRepository.deleteById(productId);
+        publishInvalidation(productId);
+    }
+
+    /* 상품 정보 변경 알림 (Near Cache 무효화) */
+    private void publishInvalidation(Long productId) {
+        redisTemplate.convertAndSend(PurchaseTimeNearCache.INVALIDATION_CHANNEL, String.valueOf(productId));
     }
 
     /**
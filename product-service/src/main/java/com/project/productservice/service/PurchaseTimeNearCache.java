@@ -0,0 +1,90 @@
+package com.project.productservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 구매 가능 시간 Near Cache (애플리케이션 메모리)
+ *
+ * 거의 변경되지 않는 구매 가능 시간을 epoch millis로 보관하여, 주문 가능 여부 확인 시 Redis 조회와 문자열 파싱을 생략한다.
+ * 상품 정보가 변경되면 Redis Pub/Sub(product-invalidation 채널)으로 모든 인스턴스의 캐시를 무효화한다.
+ * Pub/Sub 메시지가 유실되는 경우를 대비해 일정 시간(ttl-ms)이 지나면 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class PurchaseTimeNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "product-invalidation";
+
+    private final Map<Long, CachedTime> cache = new ConcurrentHashMap<>();
+
+    @Value("${product.near-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${product.near-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    private record CachedTime(long purchaseStartMillis, long expiresAt) {
+    }
+
+    public PurchaseTimeNearCache(RedisMessageListenerContainer redisMessageListenerContainer) {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 구매 가능 시간 조회
+     *
+     * @param productId 조회할 상품의 ID
+     * @param loader 캐시에 없거나 만료된 경우 구매 가능 시간(epoch millis)을 조회하는 함수
+     * @return 해당 상품의 구매 가능 시간 (epoch millis)
+     */
+    public long get(Long productId, ToLongFunction<Long> loader) {
+        long now = System.currentTimeMillis();
+        CachedTime cached = cache.get(productId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.purchaseStartMillis();
+        }
+
+        long purchaseStartMillis = loader.applyAsLong(productId);
+        evictIfFull();
+        cache.put(productId, new CachedTime(purchaseStartMillis, now + ttlMillis));
+        return purchaseStartMillis;
+    }
+
+    /* 해당 상품 캐시 무효화 */
+    public void invalidate(Long productId) {
+        cache.remove(productId);
+    }
+
+    /* 캐시 무효화 메시지 수신 (message: productId) */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String productId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.parseLong(productId));
+            log.info("PURCHASE TIME NEAR CACHE INVALIDATED - ID: {}", productId);
+        } catch (NumberFormatException e) {
+            log.error("잘못된 캐시 무효화 메시지입니다: {}", productId);
+        }
+    }
+
+    /* 최대 크기 초과 시 임의의 항목 제거 */
+    private void evictIfFull() {
+        Iterator<Long> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
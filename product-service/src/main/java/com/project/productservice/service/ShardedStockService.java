@@ -0,0 +1,292 @@
+package com.project.productservice.service;
+
+import com.project.productservice.entity.Product;
+import com.project.productservice.exception.CustomException;
+import com.project.productservice.exception.ErrorCode;
+import com.project.productservice.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Flash Sale 상품의 샤딩된 재고 관리
+ *
+ * Flash Sale 상품(flashSale = true)의 재고는 하나의 key(stock_ID: {productId}) 대신
+ * N개의 샤드 key(stock_ID: {productId}:shard:{index})에 나누어 저장한다.
+ * 재고 감소는 임의의 샤드부터 가져오며, 해당 샤드의 재고가 부족하면 다른 샤드의 재고를 가져온다(steal).
+ * 여러 샤드에서 가져오는 과정은 하나의 Lua Script로 처리하므로, 재고가 남아 있는 동안 동시 요청이 함께 실패하지 않는다.
+ * 재고 감소와 샤딩 초기화/해제는 단일 key와 샤드 key들을 하나의 Lua Script로 처리하므로,
+ * Redis Cluster에서는 같은 hash slot에 있어야 한다. (현재는 단일 노드 구성)
+ */
+@Slf4j
+@Service
+public class ShardedStockService implements MessageListener {
+
+    private static final String STOCK_KEY_PREFIX = "stock_ID: ";
+    private static final String SHARD_KEY_INFIX = ":shard:";
+    private static final long STOCK_INSUFFICIENT = -1L;
+    private static final long CACHE_MISS = -2L;
+
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> takeStockScript;
+    private final RedisScript<Long> reserveStockShardsScript;
+    private final RedisScript<Long> rollbackStockScript;
+    private final RedisScript<Long> initStockShardsScript;
+    private final RedisScript<Long> mergeStockShardsScript;
+    private final StockJournal stockJournal;
+
+    // 상품 ID별 Flash Sale(재고 샤딩) 여부
+    private final Map<Long, Boolean> flashSaleFlags = new ConcurrentHashMap<>();
+
+    @Value("${product.stock-shard.count:8}")
+    private int shardCount;
+
+    public ShardedStockService(ProductRepository productRepository,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisScript<Long> takeStockScript,
+                               RedisScript<Long> reserveStockShardsScript,
+                               RedisScript<Long> rollbackStockScript,
+                               RedisScript<Long> initStockShardsScript,
+                               RedisScript<Long> mergeStockShardsScript,
+                               StockJournal stockJournal,
+                               RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.takeStockScript = takeStockScript;
+        this.reserveStockShardsScript = reserveStockShardsScript;
+        this.rollbackStockScript = rollbackStockScript;
+        this.initStockShardsScript = initStockShardsScript;
+        this.mergeStockShardsScript = mergeStockShardsScript;
+        this.stockJournal = stockJournal;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(PurchaseTimeNearCache.INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 재고 샤딩 대상 상품인지 확인
+     *
+     * @param productId 확인할 상품의 ID
+     * @return Flash Sale 상품이면 true
+     */
+    public boolean isSharded(Long productId) {
+        return flashSaleFlags.computeIfAbsent(productId, id -> productRepository.findById(id)
+                .map(Product::isFlashSale)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND)));
+    }
+
+    /**
+     * 재고 샤딩 여부 다시 조회 (캐싱된 Flash Sale 여부 삭제)
+     *
+     * @param productId 다시 조회할 상품의 ID
+     */
+    public void evictFlag(Long productId) {
+        flashSaleFlags.remove(productId);
+    }
+
+    /**
+     * 전체 재고 조회 (모든 샤드의 재고 합산)
+     *
+     * @param productId 조회할 상품의 ID
+     * @return 해당 상품의 전체 재고
+     */
+    public long getStock(Long productId) {
+        List<String> values = redisTemplate.opsForValue().multiGet(shardKeys(productId));
+        if (values == null || values.stream().allMatch(Objects::isNull)) {
+            initShards(productId);
+            values = redisTemplate.opsForValue().multiGet(shardKeys(productId));
+        }
+
+        return values.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::parseLong)
+                .sum();
+    }
+
+    /**
+     * 재고 감소 (all-or-nothing)
+     *
+     * 하나의 Lua Script로 모든 샤드의 재고를 합산하여 확인하고,
+     * 임의의 샤드부터 차례로 가능한 만큼 가져와 요청한 수량만큼 감소시킨다.
+     * 재고가 부족하면 어떤 샤드의 재고도 감소시키지 않는다.
+     *
+     * @param productId 감소시킬 상품의 ID
+     * @param quantity 감소시킬 재고 수량
+     * @return 감소 후 전체 재고, 재고가 부족하면 STOCK_INSUFFICIENT(-1)
+     */
+    public long reduceStock(Long productId, int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        long remaining = executeShardScript(reserveStockShardsScript, productId, shardKeys(productId),
+                String.valueOf(quantity), String.valueOf(start));
+
+        if (remaining != STOCK_INSUFFICIENT) {
+            log.info("REDIS SHARDED STOCK REDUCE - ID: {}, VALUE: {}", productId, remaining);
+        }
+        return remaining;
+    }
+
+    /**
+     * 재고 롤백(증가)
+     *
+     * @param productId 롤백(증가)시킬 상품의 ID
+     * @param quantity 롤백(증가)시킬 상품의 수량
+     */
+    public void rollbackStock(Long productId, int quantity) {
+        String shardKey = shardKey(productId, ThreadLocalRandom.current().nextInt(shardCount));
+        long stock = executeShardScript(rollbackStockScript, productId, Collections.singletonList(shardKey), String.valueOf(quantity));
+        log.info("REDIS SHARDED STOCK ROLLBACK - KEY: {}, VALUE: {}", shardKey, stock);
+    }
+
+    /**
+     * 캐싱된 전체 재고 조회 (샤드가 없어도 초기화하지 않음)
+     *
+     * @param productId 조회할 상품의 ID
+     * @return 모든 샤드의 재고 합, 캐싱된 샤드가 없으면 null
+     */
+    public Long getCachedStock(Long productId) {
+        List<String> values = redisTemplate.opsForValue().multiGet(shardKeys(productId));
+        if (values == null || values.stream().allMatch(Objects::isNull)) {
+            return null;
+        }
+
+        return values.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::parseLong)
+                .sum();
+    }
+
+    /**
+     * 재고 보정
+     *
+     * 증가시킬 수량은 임의의 샤드 하나에 더하고, 감소시킬 수량은 각 샤드에서 가능한 만큼 차례로 가져온다.
+     * 캐싱된 샤드가 없으면 보정하지 않는다.
+     *
+     * @param productId 보정할 상품의 ID
+     * @param delta 증가시킬 재고 수량 (음수이면 감소)
+     * @return 실제로 보정된 수량
+     */
+    public long adjustStock(Long productId, long delta) {
+        if (delta > 0) {
+            String shardKey = shardKey(productId, ThreadLocalRandom.current().nextInt(shardCount));
+            Long stock = redisTemplate.execute(rollbackStockScript, Collections.singletonList(shardKey), String.valueOf(delta));
+            return stock == null || stock == CACHE_MISS ? 0 : delta;
+        }
+
+        long remaining = -delta;
+        for (int index = 0; index < shardCount && remaining > 0; index++) {
+            Long taken = redisTemplate.execute(takeStockScript, Collections.singletonList(shardKey(productId, index)), String.valueOf(remaining));
+            if (taken != null && taken > 0) {
+                remaining -= taken;
+            }
+        }
+        return delta + remaining;
+    }
+
+    /**
+     * 재고 샤드 초기화
+     *
+     * 하나의 Lua Script로 단일 key의 재고를 샤드 수만큼 나누어 옮기고 단일 key를 삭제한다. (원자적 처리)
+     * 단일 key가 없으면 DB 재고에서 StockJournal에 누적되어 아직 반영되지 않은 감소량을 뺀 값을 나누어 캐싱한다.
+     * 이미 일부 샤드가 있으면 샤드가 기준이므로, 없는 샤드만 0으로 생성한다.
+     *
+     * @param productId 초기화할 상품의 ID
+     */
+    public void initShards(Long productId) {
+        long dbStock = productRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND))
+                .getStock() - stockJournal.getUnflushedDelta(productId);
+
+        Long stock = redisTemplate.execute(initStockShardsScript, stockKeys(productId), String.valueOf(dbStock));
+        log.info("REDIS STOCK SHARDS SET - ID: {}, STOCK: {}, SHARDS: {}", productId, stock, shardCount);
+    }
+
+    /**
+     * 재고 샤드 해제
+     *
+     * Flash Sale 상품이 일반 상품으로 변경되면, 하나의 Lua Script로 모든 샤드의 재고를 합쳐 단일 key로 옮기고 샤드를 삭제한다. (원자적 처리)
+     *
+     * @param productId 해제할 상품의 ID
+     */
+    public void mergeShards(Long productId) {
+        Long stock = redisTemplate.execute(mergeStockShardsScript, stockKeys(productId));
+        if (stock != null && stock != CACHE_MISS) {
+            log.info("REDIS STOCK SHARDS MERGED - ID: {}, STOCK: {}", productId, stock);
+        }
+    }
+
+    /**
+     * 샤드 Lua Script 실행 (캐시에 없으면 샤드 초기화 후 재시도)
+     *
+     * 샤드가 없으면 먼저 Flash Sale 여부를 다시 조회하여, 일반 상품으로 변경된 경우에는 샤드를 다시 만들지 않는다.
+     *
+     * @throws CustomException 일반 상품으로 변경된 경우(재시도 시 단일 key로 처리) 또는 스크립트 응답이 없는 경우 STOCK_CACHE_MISS 예외 발생
+     */
+    private long executeShardScript(RedisScript<Long> script, Long productId, List<String> keys, String... args) {
+        Long result = redisTemplate.execute(script, keys, (Object[]) args);
+
+        if (result != null && result == CACHE_MISS) {
+            evictFlag(productId);
+            if (!isSharded(productId)) {
+                throw new CustomException(ErrorCode.STOCK_CACHE_MISS);
+            }
+            initShards(productId);
+            result = redisTemplate.execute(script, keys, (Object[]) args);
+        }
+        if (result == null) {
+            // 스크립트 응답이 없으면 재고 처리 여부를 알 수 없으므로 재시도 가능한 예외로 실패
+            log.error("REDIS SHARDED STOCK SCRIPT NO REPLY - ID: {}", productId);
+            throw new CustomException(ErrorCode.STOCK_CACHE_MISS);
+        }
+        return result;
+    }
+
+    private String shardKey(Long productId, int index) {
+        return STOCK_KEY_PREFIX + productId + SHARD_KEY_INFIX + index;
+    }
+
+    /**
+     * 상품의 재고 key 목록 (단일 key + 모든 샤드 key)
+     *
+     * @param productId 대상 상품의 ID
+     * @return 단일 key와 모든 샤드 key
+     */
+    public List<String> stockKeys(Long productId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(STOCK_KEY_PREFIX + productId);
+        keys.addAll(shardKeys(productId));
+        return keys;
+    }
+
+    private List<String> shardKeys(Long productId) {
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < shardCount; index++) {
+            keys.add(shardKey(productId, index));
+        }
+        return keys;
+    }
+
+    /* 상품 정보 변경 메시지 수신 -> Flash Sale 여부 다시 조회 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String productId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            flashSaleFlags.remove(Long.parseLong(productId));
+        } catch (NumberFormatException e) {
+            log.error("잘못된 캐시 무효화 메시지입니다: {}", productId);
+        }
+    }
+}
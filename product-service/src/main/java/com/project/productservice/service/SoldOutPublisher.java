@@ -0,0 +1,78 @@
+package com.project.productservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 품절 상품 정보 발행
+ *
+ * 재고가 0이 된 상품 ID를 Redis Set(sold_out_products)에 기록하고, Redis Pub/Sub(product-sold-out 채널)으로 알린다.
+ * 주문 서비스는 이 정보를 메모리에 캐싱하여 품절 상품에 대한 주문 요청을 상품 서비스 호출 없이 거절한다.
+ * 재고가 롤백되면 품절 상태를 해제하고 다시 알린다.
+ *
+ * 품절 상태는 Lua Script 안에서 현재 재고를 다시 읽어 변경하므로, 재고 감소와 롤백이 동시에 일어나도
+ * 재고가 남아 있는 상품이 품절 상태로 남지 않는다.
+ *
+ * 메시지 형식: SOLD_OUT:{productId} 또는 AVAILABLE:{productId}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutPublisher {
+
+    public static final String SOLD_OUT_CHANNEL = "product-sold-out";
+    public static final String SOLD_OUT_KEY = "sold_out_products";
+    private static final String SOLD_OUT_MESSAGE_PREFIX = "SOLD_OUT:";
+    private static final String AVAILABLE_MESSAGE_PREFIX = "AVAILABLE:";
+
+    // Lua Script 반환 코드
+    private static final long MARKED_SOLD_OUT = 1L;
+    private static final long MARKED_AVAILABLE = -1L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> syncSoldOutScript;
+    private final ShardedStockService shardedStockService;
+
+    /**
+     * 현재 재고에 따라 품절 상태 갱신
+     *
+     * 캐싱된 재고(단일 key 또는 모든 샤드의 합)가 0이면 품절 상태로 변경하고, 남아 있으면 품절 상태를 해제한다.
+     * 상태가 바뀐 경우에만 알리며, 캐싱된 재고가 없으면 변경하지 않는다.
+     *
+     * @param productId 재고가 변경된 상품의 ID
+     */
+    public void refresh(Long productId) {
+        refresh(productId, null);
+    }
+
+    /**
+     * 현재 재고에 따라 품절 상태 갱신 (캐싱된 재고가 없으면 주어진 재고 기준)
+     *
+     * @param productId 재고가 변경된 상품의 ID
+     * @param uncachedStock 캐싱된 재고가 없을 때 사용할 재고 (null이면 변경하지 않음)
+     */
+    public void refresh(Long productId, Long uncachedStock) {
+        List<String> keys = new ArrayList<>();
+        keys.add(SOLD_OUT_KEY);
+        keys.addAll(shardedStockService.stockKeys(productId));
+
+        List<String> args = new ArrayList<>(List.of(String.valueOf(productId), SOLD_OUT_CHANNEL,
+                SOLD_OUT_MESSAGE_PREFIX + productId, AVAILABLE_MESSAGE_PREFIX + productId));
+        if (uncachedStock != null) {
+            args.add(String.valueOf(uncachedStock));
+        }
+
+        Long result = redisTemplate.execute(syncSoldOutScript, keys, args.toArray());
+        if (result != null && result == MARKED_SOLD_OUT) {
+            log.info("PRODUCT SOLD OUT - ID: {}", productId);
+        } else if (result != null && result == MARKED_AVAILABLE) {
+            log.info("PRODUCT AVAILABLE - ID: {}", productId);
+        }
+    }
+}
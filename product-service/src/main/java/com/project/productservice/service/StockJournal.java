@@ -0,0 +1,185 @@
+package com.project.productservice.service;
+
+import com.project.productservice.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 재고 변경 Write-Behind Journal
+ *
+ * 주문마다 DB의 상품 재고를 조회 후 저장하는 대신, 상품 ID별 재고 변경량을 메모리에 누적한다.
+ * 누적된 변경량은 일정 주기 또는 일정 건수마다 상품별로 한 번의 UPDATE(stock = stock - ?)로 반영한다.
+ * 재고가 변경된 상품 ID는 StockReconciler가 Redis 재고와 DB 재고를 비교할 수 있도록 따로 기록한다.
+ */
+@Slf4j
+@Component
+public class StockJournal {
+
+    private final ProductRepository productRepository;
+    private final TaskExecutor taskExecutor;
+
+    // 상품 ID별 반영 대기 중인 재고 감소량 (음수이면 증가)
+    private final Map<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+    // 상품 ID별 DB에 반영 중인(UPDATE 커밋 전) 재고 감소량
+    private final Map<Long, Long> inFlightDeltas = new ConcurrentHashMap<>();
+    // 마지막 조회 이후 재고가 변경된 상품 ID
+    private final Set<Long> touchedProductIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingRecords = new AtomicInteger();
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final Timer flushLagTimer;
+
+    @Value("${product.stock-journal.flush-size:500}")
+    private int flushSize;
+
+    public StockJournal(ProductRepository productRepository, TaskExecutor taskExecutor, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.taskExecutor = taskExecutor;
+
+        this.flushTimer = Timer.builder("product.stock.journal.flush")
+                .description("재고 변경량 DB 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushLagTimer = Timer.builder("product.stock.journal.flush.lag")
+                .description("가장 오래된 재고 변경이 DB에 반영되기까지의 지연 시간")
+                .register(meterRegistry);
+        Gauge.builder("product.stock.journal.pending.products", pendingDeltas, Map::size)
+                .description("DB 반영 대기 중인 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("product.stock.journal.pending.records", pendingRecords, AtomicInteger::get)
+                .description("DB 반영 대기 중인 재고 변경 건수")
+                .register(meterRegistry);
+    }
+
+    /* DB 재고 감소 기록 */
+    public void reduce(Long productId, int quantity) {
+        record(productId, quantity);
+    }
+
+    /* DB 재고 롤백(증가) 기록 */
+    public void rollback(Long productId, int quantity) {
+        record(productId, -quantity);
+    }
+
+    /**
+     * DB 재고 보정 기록
+     *
+     * @param productId 보정할 상품의 ID
+     * @param delta 감소시킬 재고 수량 (음수이면 증가)
+     */
+    public void adjust(Long productId, long delta) {
+        record(productId, delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 재고 감소량 조회 (반영 대기 중 + 반영 중)
+     *
+     * @param productId 조회할 상품의 ID
+     * @return DB에 반영되지 않은 재고 감소량 (음수이면 증가)
+     */
+    public long getUnflushedDelta(Long productId) {
+        return pendingDeltas.getOrDefault(productId, 0L) + inFlightDeltas.getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 마지막 조회 이후 재고가 변경된 상품 ID 목록을 꺼낸다.
+     *
+     * @return 재고가 변경된 상품 ID 목록
+     */
+    public List<Long> drainTouchedProductIds() {
+        List<Long> productIds = new ArrayList<>(touchedProductIds);
+        productIds.forEach(touchedProductIds::remove);
+        return productIds;
+    }
+
+    private void record(Long productId, long delta) {
+        pendingDeltas.merge(productId, delta, Long::sum);
+        touchedProductIds.add(productId);
+        oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+
+        // 일정 건수 이상 누적되면 주기를 기다리지 않고 반영
+        if (pendingRecords.incrementAndGet() >= flushSize && flushRequested.compareAndSet(false, true)) {
+            taskExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * 누적된 재고 변경량 DB 반영
+     *
+     * 상품별 변경량을 꺼내(remove) 한 번의 UPDATE로 반영한다.
+     * 반영에 실패한 변경량은 다음 반영 시 다시 시도하도록 되돌려 놓는다.
+     */
+    @Scheduled(fixedDelayString = "${product.stock-journal.flush-interval-ms:1000}")
+    public void flush() {
+        flushRequested.set(false);
+        if (!flushLock.tryLock()) {
+            return;  // 다른 스레드에서 반영 중
+        }
+
+        try {
+            long oldest = oldestPendingAt.getAndSet(0L);
+            pendingRecords.set(0);
+            if (pendingDeltas.isEmpty()) {
+                return;
+            }
+
+            flushLagTimer.record(Duration.ofMillis(System.currentTimeMillis() - oldest));
+            flushTimer.record(this::flushPendingDeltas);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPendingDeltas() {
+        List<Long> productIds = new ArrayList<>(pendingDeltas.keySet());
+
+        for (Long productId : productIds) {
+            Long delta = pendingDeltas.remove(productId);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+
+            inFlightDeltas.put(productId, delta);
+            try {
+                int updated = productRepository.decreaseStock(productId, delta);
+                if (updated == 0) {
+                    log.error("[JOURNAL] PRODUCT NOT FOUND - ID: {}, DELTA: {}", productId, delta);
+                    continue;
+                }
+                log.info("[JOURNAL] DB STOCK UPDATE - ID: {}, DELTA: {}", productId, -delta);
+            } catch (Exception e) {
+                log.error("[JOURNAL] DB STOCK UPDATE FAILED - ID: {}, DELTA: {}", productId, delta, e);
+                pendingDeltas.merge(productId, delta, Long::sum);
+                oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+            } finally {
+                inFlightDeltas.remove(productId);
+            }
+        }
+    }
+
+    /* 애플리케이션 종료 시 남은 변경량 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
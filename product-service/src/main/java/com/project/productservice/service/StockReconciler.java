@@ -0,0 +1,211 @@
+package com.project.productservice.service;
+
+import com.project.productservice.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 재고 & DB 재고 정합성 검사 및 보정
+ *
+ * Redis 재고는 주문 시 바로 감소하고, DB 재고는 StockJournal에 누적된 뒤 나중에 반영된다.
+ * 따라서 두 재고가 일치하는 상태는 "Redis 재고 = DB 재고 - 아직 반영되지 않은 감소량"이다.
+ * 일정 주기(interval-ms)마다 최근 재고가 변경된 상품만 비교하며, 불일치(drift)는 지표로 기록한다.
+ *
+ * Redis 재고 감소와 StockJournal 기록 사이에 검사가 끼어들면 일시적인 불일치가 보이므로,
+ * 같은 불일치가 연속 두 번 확인된 경우에만 source-of-truth 설정에 따라 보정한다.
+ * - REDIS : Redis 재고를 기준으로 DB 재고를 보정 (StockJournal에 보정량 기록)
+ * - DB : DB 재고를 기준으로 Redis 재고를 보정
+ * - NONE(기본값) : 보정하지 않고 지표만 기록
+ *
+ * 기대 재고는 이 인스턴스의 StockJournal에 남은 감소량만으로 계산하므로, 보정(REDIS, DB)은 상품 서비스가 하나의 인스턴스로
+ * 실행되는 경우에만 사용해야 한다. 여러 인스턴스로 실행하면 다른 인스턴스의 반영되지 않은 주문이 불일치로 보여
+ * 정상 재고를 잘못 보정하므로 NONE으로 두고 지표만 참고한다.
+ */
+@Slf4j
+@Component
+public class StockReconciler {
+
+    private static final String STOCK_KEY_PREFIX = "stock_ID: ";
+    private static final long CACHE_MISS = -2L;
+
+    private final ProductRepository productRepository;
+    private final StockJournal stockJournal;
+    private final ShardedStockService shardedStockService;
+    private final SoldOutPublisher soldOutPublisher;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> rollbackStockScript;
+
+    // 상품 ID별 직전 검사에서 확인된 불일치 수량 (Redis 재고 - 기대 재고)
+    private final Map<Long, Long> suspectedDrifts = new ConcurrentHashMap<>();
+
+    private final Counter checkedCounter;
+    private final Counter driftCounter;
+    private final DistributionSummary driftSummary;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.reconcile.source-of-truth:NONE}")
+    private SourceOfTruth sourceOfTruth;
+
+    /* 재고 불일치 보정 기준 */
+    public enum SourceOfTruth {
+        REDIS, DB, NONE
+    }
+
+    public StockReconciler(ProductRepository productRepository,
+                           StockJournal stockJournal,
+                           ShardedStockService shardedStockService,
+                           SoldOutPublisher soldOutPublisher,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisScript<Long> rollbackStockScript,
+                           MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.stockJournal = stockJournal;
+        this.shardedStockService = shardedStockService;
+        this.soldOutPublisher = soldOutPublisher;
+        this.redisTemplate = redisTemplate;
+        this.rollbackStockScript = rollbackStockScript;
+        this.meterRegistry = meterRegistry;
+
+        this.checkedCounter = Counter.builder("product.stock.reconcile.checked")
+                .description("정합성을 검사한 상품 수")
+                .register(meterRegistry);
+        this.driftCounter = Counter.builder("product.stock.reconcile.drift")
+                .description("Redis 재고와 DB 재고가 일치하지 않는 상품 수 (연속 두 번 확인된 경우)")
+                .register(meterRegistry);
+        this.driftSummary = DistributionSummary.builder("product.stock.reconcile.drift.quantity")
+                .description("Redis 재고와 DB 재고의 차이 (절댓값)")
+                .register(meterRegistry);
+        Gauge.builder("product.stock.reconcile.suspected", suspectedDrifts, Map::size)
+                .description("불일치가 한 번 확인되어 다시 검사할 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 재고가 변경된 상품 & 직전 검사에서 불일치가 확인된 상품의 정합성 검사
+     */
+    @Scheduled(fixedDelayString = "${product.reconcile.interval-ms:5000}")
+    public void reconcileRecent() {
+        Set<Long> productIds = new LinkedHashSet<>(stockJournal.drainTouchedProductIds());
+        productIds.addAll(suspectedDrifts.keySet());
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            reconcile(productIds);
+        } catch (Exception e) {
+            log.error("[RECONCILE] 재고 정합성 검사 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재고 정합성 검사
+     *
+     * 1. DB 재고 & Flash Sale 여부를 한 번에 조회
+     * 2. Redis 재고 조회 (일반 상품은 한 번의 MGET, Flash Sale 상품은 모든 샤드의 합)
+     * 3. 기대 재고(DB 재고 - 반영되지 않은 감소량)와 비교, 캐싱되지 않은 상품은 검사 대상이 아님
+     * 4. 직전 검사와 같은 불일치가 다시 확인되면 지표 기록 후 보정
+     *
+     * @param productIds 검사할 상품 ID 목록
+     */
+    public void reconcile(Collection<Long> productIds) {
+        List<Object[]> rows = productRepository.findStocksByProductIdIn(productIds);
+
+        List<Object[]> plainRows = new ArrayList<>();
+        for (Object[] row : rows) {
+            if ((boolean) row[2]) {
+                Long productId = (Long) row[0];
+                check(productId, shardedStockService.getCachedStock(productId), (int) row[1], true);
+            } else {
+                plainRows.add(row);
+            }
+        }
+
+        if (!plainRows.isEmpty()) {
+            List<String> keys = plainRows.stream()
+                    .map(row -> STOCK_KEY_PREFIX + row[0])
+                    .toList();
+            List<String> redisValues = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < plainRows.size(); i++) {
+                String redisValue = redisValues.get(i);
+                Object[] row = plainRows.get(i);
+                check((Long) row[0], redisValue == null ? null : Long.parseLong(redisValue), (int) row[1], false);
+            }
+        }
+        checkedCounter.increment(rows.size());
+    }
+
+    private void check(Long productId, Long redisStock, int dbStock, boolean sharded) {
+        if (redisStock == null) {
+            suspectedDrifts.remove(productId);
+            return;
+        }
+
+        long expectedStock = dbStock - stockJournal.getUnflushedDelta(productId);
+        long drift = redisStock - expectedStock;
+        if (drift == 0) {
+            suspectedDrifts.remove(productId);
+            return;
+        }
+
+        // 처음 확인된 불일치 또는 직전과 다른 불일치 -> 다음 검사에서 다시 확인
+        Long previousDrift = suspectedDrifts.put(productId, drift);
+        if (previousDrift == null || previousDrift != drift) {
+            return;
+        }
+
+        suspectedDrifts.remove(productId);
+        driftCounter.increment();
+        driftSummary.record(Math.abs(drift));
+        log.warn("[RECONCILE] STOCK DRIFT - ID: {}, REDIS: {}, EXPECTED: {}, DRIFT: {}, SOURCE OF TRUTH: {}",
+                productId, redisStock, expectedStock, drift, sourceOfTruth);
+
+        heal(productId, drift, sharded);
+    }
+
+    /* source-of-truth 설정에 따라 불일치 보정 */
+    private void heal(Long productId, long drift, boolean sharded) {
+        switch (sourceOfTruth) {
+            case REDIS -> {
+                // Redis 재고가 drift만큼 많음 -> DB 재고를 drift만큼 증가
+                stockJournal.adjust(productId, -drift);
+                meterRegistry.counter("product.stock.reconcile.healed", "target", "db").increment();
+            }
+            case DB -> {
+                Long redisStock;
+                if (sharded) {
+                    shardedStockService.adjustStock(productId, -drift);
+                    redisStock = shardedStockService.getCachedStock(productId);
+                } else {
+                    redisStock = redisTemplate.execute(rollbackStockScript,
+                            Collections.singletonList(STOCK_KEY_PREFIX + productId), String.valueOf(-drift));
+                }
+                if (redisStock == null || redisStock == CACHE_MISS) {
+                    return;  // 검사 이후 캐시가 삭제됨
+                }
+
+                soldOutPublisher.refresh(productId);
+                meterRegistry.counter("product.stock.reconcile.healed", "target", "redis").increment();
+            }
+            case NONE -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.productservice.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 같은 key에 대한 동시 조회를 하나로 합치는 유틸
+ *
+ * 먼저 요청한 스레드만 loader를 실행하고, 조회가 끝나기 전에 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * 조회가 끝나면 key는 즉시 제거되므로 결과를 캐싱하지는 않는다.
+ *
+ * @param <K> 조회 key
+ * @param <V> 조회 결과
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Function<K, V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+
+        if (running != null) {
+            // 이미 조회 중 -> 결과 대기
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            V value = loader.apply(key);
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error를 포함한 모든 예외를 대기 중인 요청에 전달 (완료되지 않으면 대기 중인 요청이 멈춤)
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+            if (!future.isDone()) {
+                future.cancel(false);
+            }
+        }
+    }
+}
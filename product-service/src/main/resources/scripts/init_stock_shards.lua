@@ -0,0 +1,44 @@
+-- 재고 샤드 초기화 (단일 key -> 샤드, 원자적 처리)
+-- KEYS[1]    : 단일 재고 key (stock_ID: {productId})
+-- KEYS[2..]  : 재고 샤드 key (stock_ID: {productId}:shard:{index})
+-- ARGV[1]    : 단일 key와 샤드가 모두 없을 때 사용할 재고 (DB 재고 - 반영되지 않은 감소량)
+-- return     : 초기화 후 전체 재고
+local shardCount = #KEYS - 1
+
+local existing = 0
+for i = 2, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        existing = existing + 1
+    end
+end
+
+-- 샤드가 없으면 단일 key에 남은 재고(진행 중이던 단일 key 재고 처리분 포함)를, 단일 key도 없으면 ARGV[1]을 샤드로 옮긴다.
+-- 샤드가 이미 있으면 샤드가 기준이므로, 그 사이 다시 캐싱된 단일 key는 옮기지 않고 삭제한다.
+local moved = 0
+local single = redis.call('GET', KEYS[1])
+if existing == 0 then
+    if single then
+        moved = tonumber(single)
+    else
+        moved = tonumber(ARGV[1])
+    end
+end
+redis.call('DEL', KEYS[1])
+
+-- 없는 샤드는 0으로 생성 (일부 샤드만 남아 있는 경우 DB 재고로 다시 채우지 않음)
+for i = 2, #KEYS do
+    redis.call('SET', KEYS[i], 0, 'NX')
+end
+
+-- 옮길 재고를 샤드 수만큼 나누어 더함
+local total = 0
+for i = 2, #KEYS do
+    local index = i - 2
+    local share = math.floor(moved / shardCount)
+    if index < moved % shardCount then
+        share = share + 1
+    end
+    total = total + redis.call('INCRBY', KEYS[i], share)
+end
+
+return total
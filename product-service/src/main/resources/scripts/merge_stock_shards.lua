@@ -0,0 +1,22 @@
+-- 재고 샤드 해제 (샤드 -> 단일 key, 원자적 처리)
+-- KEYS[1]    : 단일 재고 key (stock_ID: {productId})
+-- KEYS[2..]  : 재고 샤드 key (stock_ID: {productId}:shard:{index})
+-- return     : 합친 후 단일 key의 재고 / -2 캐싱된 샤드 없음 (변경 없음)
+-- 샤드가 있는 동안에는 샤드가 기준이므로, 그 사이 다시 캐싱된 단일 key는 샤드 재고의 합으로 덮어쓴다.
+local found = false
+local total = 0
+for i = 2, #KEYS do
+    local stock = redis.call('GET', KEYS[i])
+    if stock then
+        found = true
+        total = total + tonumber(stock)
+        redis.call('DEL', KEYS[i])
+    end
+end
+
+if not found then
+    return -2
+end
+
+redis.call('SET', KEYS[1], total)
+return total
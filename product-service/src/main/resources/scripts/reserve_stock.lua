@@ -0,0 +1,16 @@
+-- 재고 확인 및 감소 (원자적 처리)
+-- KEYS[1] : 재고 key (stock_ID: {productId})
+-- ARGV[1] : 감소시킬 수량
+-- return  : 감소 후 남은 재고 / -1 재고 부족 / -2 캐시 없음
+local stock = redis.call('GET', KEYS[1])
+if not stock then
+    return -2
+end
+
+local remaining = tonumber(stock) - tonumber(ARGV[1])
+if remaining < 0 then
+    return -1
+end
+
+redis.call('DECRBY', KEYS[1], ARGV[1])
+return remaining
@@ -0,0 +1,33 @@
+-- 여러 상품의 재고 확인 및 감소 (원자적 처리, all-or-nothing)
+-- KEYS[i] : 재고 key (stock_ID: {productId})
+-- ARGV[i] : 감소시킬 수량
+-- return  : { 1, 감소 후 재고... }   모든 상품 재고 감소 완료
+--           { 0, 감소 후 재고... }   재고가 부족한 상품 존재 (음수 = 부족한 수량, 재고 변경 없음)
+--           { -2, 캐시 없는 key 인덱스... } 캐시에 없는 상품 존재 (재고 변경 없음)
+local result = { 1 }
+local missing = { -2 }
+
+for i = 1, #KEYS do
+    local stock = redis.call('GET', KEYS[i])
+    if not stock then
+        table.insert(missing, i)
+    else
+        local remaining = tonumber(stock) - tonumber(ARGV[i])
+        if remaining < 0 then
+            result[1] = 0
+        end
+        table.insert(result, remaining)
+    end
+end
+
+if #missing > 1 then
+    return missing
+end
+
+if result[1] == 1 then
+    for i = 1, #KEYS do
+        redis.call('DECRBY', KEYS[i], ARGV[i])
+    end
+end
+
+return result
@@ -0,0 +1,41 @@
+-- 샤딩된 재고 확인 및 감소 (원자적 처리, all-or-nothing)
+-- KEYS[i] : 재고 샤드 key (stock_ID: {productId}:shard:{index})
+-- ARGV[1] : 감소시킬 수량
+-- ARGV[2] : 먼저 재고를 가져올 샤드의 인덱스 (0부터)
+-- return  : 감소 후 전체 재고 / -1 재고 부족 (재고 변경 없음) / -2 캐시 없음
+local total = 0
+local found = false
+for i = 1, #KEYS do
+    local stock = redis.call('GET', KEYS[i])
+    if stock then
+        found = true
+        total = total + tonumber(stock)
+    end
+end
+
+if not found then
+    return -2
+end
+
+local quantity = tonumber(ARGV[1])
+if total < quantity then
+    return -1
+end
+
+-- 시작 샤드부터 차례로 가능한 만큼 가져옴 (모든 샤드의 합이 충분하므로 항상 전부 가져올 수 있음)
+local remaining = quantity
+local start = tonumber(ARGV[2])
+for i = 0, #KEYS - 1 do
+    if remaining <= 0 then
+        break
+    end
+
+    local key = KEYS[(start + i) % #KEYS + 1]
+    local taken = math.min(tonumber(redis.call('GET', key) or '0'), remaining)
+    if taken > 0 then
+        redis.call('DECRBY', key, taken)
+        remaining = remaining - taken
+    end
+end
+
+return total - quantity
@@ -0,0 +1,9 @@
+-- 재고 롤백 (원자적 처리)
+-- KEYS[1] : 재고 key (stock_ID: {productId})
+-- ARGV[1] : 증가시킬 수량
+-- return  : 증가 후 재고 / -2 캐시 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -2
+end
+
+return redis.call('INCRBY', KEYS[1], ARGV[1])
@@ -0,0 +1,23 @@
+-- 여러 상품의 재고 롤백 (원자적 처리, all-or-nothing)
+-- KEYS[i] : 재고 key (stock_ID: {productId})
+-- ARGV[i] : 증가시킬 수량
+-- return  : { 1, 증가 후 재고... }   모든 상품 재고 롤백 완료
+--           { -2, 캐시 없는 key 인덱스... } 캐시에 없는 상품 존재 (재고 변경 없음)
+local missing = { -2 }
+
+for i = 1, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 0 then
+        table.insert(missing, i)
+    end
+end
+
+if #missing > 1 then
+    return missing
+end
+
+local result = { 1 }
+for i = 1, #KEYS do
+    table.insert(result, redis.call('INCRBY', KEYS[i], ARGV[i]))
+end
+
+return result
@@ -0,0 +1,41 @@
+-- 재고에 따라 품절 상태 갱신 (원자적 처리)
+-- KEYS[1]   : 품절 상품 Set key (sold_out_products)
+-- KEYS[2..] : 재고 key (단일 key + 모든 샤드 key)
+-- ARGV[1]   : 상품 ID
+-- ARGV[2]   : 품절 정보 채널 (product-sold-out)
+-- ARGV[3]   : 품절 메시지 (SOLD_OUT:{productId})
+-- ARGV[4]   : 품절 해제 메시지 (AVAILABLE:{productId})
+-- ARGV[5]   : 캐싱된 재고가 없을 때 사용할 재고 (생략 시 품절 상태를 변경하지 않음)
+-- return    : 1 품절 상태로 변경 / -1 품절 해제 / 0 변경 없음 / -2 캐시 없음
+-- 재고를 읽는 시점과 품절 상태를 변경하는 시점 사이에 다른 재고 처리가 끼어들지 않으므로,
+-- 마지막으로 실행된 갱신이 항상 그 시점의 재고와 일치하는 품절 상태를 남긴다.
+local found = false
+local stock = 0
+for i = 2, #KEYS do
+    local value = redis.call('GET', KEYS[i])
+    if value then
+        found = true
+        stock = stock + tonumber(value)
+    end
+end
+
+if not found then
+    if not ARGV[5] then
+        return -2
+    end
+    stock = tonumber(ARGV[5])
+end
+
+if stock > 0 then
+    if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+        redis.call('PUBLISH', ARGV[2], ARGV[4])
+        return -1
+    end
+    return 0
+end
+
+if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then
+    redis.call('PUBLISH', ARGV[2], ARGV[3])
+    return 1
+end
+return 0
@@ -0,0 +1,16 @@
+-- 재고 샤드에서 가능한 만큼 재고 감소 (원자적 처리)
+-- KEYS[1] : 재고 샤드 key (stock_ID: {productId}:shard:{index})
+-- ARGV[1] : 감소시킬 수량
+-- return  : 실제로 감소시킨 수량 (0 ~ ARGV[1]) / -2 캐시 없음
+local stock = redis.call('GET', KEYS[1])
+if not stock then
+    return -2
+end
+
+local taken = math.min(tonumber(stock), tonumber(ARGV[1]))
+if taken <= 0 then
+    return 0
+end
+
+redis.call('DECRBY', KEYS[1], taken)
+return taken
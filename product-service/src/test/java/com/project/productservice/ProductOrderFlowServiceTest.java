@@ -0,0 +1,195 @@
+package com.project.productservice;
+
+import com.project.productservice.dto.StockRequestDto;
+import com.project.productservice.dto.StockResponseDto;
+import com.project.productservice.entity.Product;
+import com.project.productservice.exception.CustomException;
+import com.project.productservice.exception.ErrorCode;
+import com.project.productservice.repository.ProductRepository;
+import com.project.productservice.service.ProductOrderFlowService;
+import com.project.productservice.service.ShardedStockService;
+import com.project.productservice.service.SoldOutPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class ProductOrderFlowServiceTest {
+
+    @Autowired
+    private ProductOrderFlowService productOrderFlowService;
+
+    @Autowired
+    private ShardedStockService shardedStockService;
+
+    @Autowired
+    private SoldOutPublisher soldOutPublisher;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long productId;
+    private Long flashSaleProductId;
+
+    @BeforeEach
+    public void setUp() {
+        //테스트용 일반 상품 & Flash Sale 상품(샤딩된 재고) 생성
+        productId = saveProduct(10, false);
+        flashSaleProductId = saveProduct(5, true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (Long id : List.of(productId, flashSaleProductId)) {
+            Set<String> shardKeys = redisTemplate.keys("stock_ID: " + id + ":shard:*");
+            if (shardKeys != null) {
+                redisTemplate.delete(shardKeys);
+            }
+            redisTemplate.delete(List.of("stock_ID: " + id, "purchase_start_time_ID: " + id));
+            redisTemplate.opsForSet().remove(SoldOutPublisher.SOLD_OUT_KEY, String.valueOf(id));
+            productRepository.deleteById(id);
+        }
+    }
+
+    private Long saveProduct(int stock, boolean flashSale) {
+        Product product = new Product();
+        product.setName("Test Product");
+        product.setUnitPrice(1);
+        product.setStock(stock);
+        product.setCategory("for test");
+        product.setPurchaseStartTime(LocalDateTime.now().minusDays(1));
+        product.setFlashSale(flashSale);
+        return productRepository.save(product).getProductId();
+    }
+
+    private long cachedStock(Long id) {
+        return Long.parseLong(redisTemplate.opsForValue().get("stock_ID: " + id));
+    }
+
+    private boolean isSoldOut(Long id) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(SoldOutPublisher.SOLD_OUT_KEY, String.valueOf(id)));
+    }
+
+    @Test
+    public void reduceStockBatchReducesShardedStock() {
+        // when - 일반 상품과 Flash Sale 상품을 함께 주문
+        List<StockResponseDto> result = productOrderFlowService.reduceStockBatch(List.of(
+                new StockRequestDto(productId, 3),
+                new StockRequestDto(flashSaleProductId, 2)));
+
+        // then
+        assertThat(result).allMatch(StockResponseDto::isReserved);
+        assertThat(result).extracting(StockResponseDto::getProductId).containsExactly(productId, flashSaleProductId);
+        assertThat(result).extracting(StockResponseDto::getRemainingStock).containsExactly(7L, 3L);
+        assertThat(cachedStock(productId)).isEqualTo(7);
+        assertThat(shardedStockService.getStock(flashSaleProductId)).isEqualTo(3);
+    }
+
+    @Test
+    public void reduceStockBatchRollsBackWhenShardedStockIsInsufficient() {
+        // when - Flash Sale 상품의 재고 부족
+        List<StockResponseDto> result = productOrderFlowService.reduceStockBatch(List.of(
+                new StockRequestDto(productId, 3),
+                new StockRequestDto(flashSaleProductId, 6)));
+
+        // then - 앞서 감소시킨 일반 상품의 재고도 롤백
+        assertThat(result).noneMatch(StockResponseDto::isReserved);
+        assertThat(cachedStock(productId)).isEqualTo(10);
+        assertThat(shardedStockService.getStock(flashSaleProductId)).isEqualTo(5);
+    }
+
+    @Test
+    public void shardedStockIsTakenFromAllShardsAtOnce() {
+        // given - 재고 5를 8개의 샤드에 나누어 캐싱 (각 샤드의 재고는 0 또는 1)
+        shardedStockService.initShards(flashSaleProductId);
+
+        // when - 한 샤드의 재고보다 많은 수량을 감소
+        productOrderFlowService.reduceStock(flashSaleProductId, 5);
+
+        // then - 재고가 0이 되어 품절 상태로 변경
+        assertThat(shardedStockService.getStock(flashSaleProductId)).isZero();
+        assertThat(isSoldOut(flashSaleProductId)).isTrue();
+    }
+
+    @Test
+    public void concurrentShardedReductionsSucceedWhileStockRemains() throws Exception {
+        // given
+        shardedStockService.initShards(flashSaleProductId);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(() -> {
+                productOrderFlowService.reduceStock(flashSaleProductId, 1);
+                return true;
+            });
+        }
+
+        // when - 재고 5에 대해 동시에 1개씩 5건 감소
+        List<Future<Boolean>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        // then - 다른 요청이 가져간 재고 때문에 실패하는 요청 없이 모두 성공
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        assertThat(shardedStockService.getStock(flashSaleProductId)).isZero();
+    }
+
+    @Test
+    public void rollbackClearsSoldOut() {
+        // given - 재고를 모두 감소시켜 품절 상태
+        productOrderFlowService.reduceStock(productId, 10);
+        assertThat(isSoldOut(productId)).isTrue();
+
+        // when
+        productOrderFlowService.rollbackStock(productId, 1);
+
+        // then
+        assertThat(isSoldOut(productId)).isFalse();
+    }
+
+    @Test
+    public void lateSoldOutRefreshKeepsProductWithStockAvailable() {
+        // given - 재고를 0으로 만든 요청의 품절 처리보다 재고 롤백이 먼저 끝난 상태
+        productOrderFlowService.reduceStock(productId, 10);
+        redisTemplate.opsForSet().remove(SoldOutPublisher.SOLD_OUT_KEY, String.valueOf(productId));
+        redisTemplate.opsForValue().increment("stock_ID: " + productId);
+
+        // when - 늦게 도착한 품절 처리
+        soldOutPublisher.refresh(productId);
+
+        // then - 현재 재고를 다시 읽으므로 품절 상태로 변경하지 않음
+        assertThat(isSoldOut(productId)).isFalse();
+    }
+
+    @Test
+    public void nonPositiveQuantityIsRejected() {
+        // given
+        productOrderFlowService.reduceStock(productId, 1);
+
+        // when & then - 음수 수량을 감소시키면 재고가 증가하므로 처리하지 않음
+        assertThatThrownBy(() -> productOrderFlowService.reduceStockBatch(List.of(new StockRequestDto(productId, -5))))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_STOCK_QUANTITY);
+        assertThat(cachedStock(productId)).isEqualTo(9);
+    }
+}
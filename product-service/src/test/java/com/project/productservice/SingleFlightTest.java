@@ -0,0 +1,78 @@
+package com.project.productservice;
+
+import com.project.productservice.util.SingleFlight;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    public void waitersReceiveLoaderResult() throws Exception {
+        // given - 첫 번째 요청의 조회가 끝나기 전에 두 번째 요청이 들어옴
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> first = executor.submit(() -> singleFlight.execute(1L, id -> {
+            loading.countDown();
+            await(release);
+            return "product";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        ExecutorService waiter = Executors.newSingleThreadExecutor();
+        Future<String> second = waiter.submit(() -> singleFlight.execute(1L, id -> "reloaded"));
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("product");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isIn("product", "reloaded");
+        executor.shutdown();
+        waiter.shutdown();
+    }
+
+    @Test
+    public void waitersAreReleasedWhenLoaderThrowsError() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<String> first = executor.submit(() -> singleFlight.execute(1L, id -> {
+            loading.countDown();
+            await(release);
+            throw new OutOfMemoryError("조회 실패");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = executor.submit(() -> singleFlight.execute(1L, id -> "reloaded"));
+
+        // when - loader가 Error로 실패
+        release.countDown();
+
+        // then - 대기 중인 요청도 멈추지 않고 끝남 (Error를 함께 받거나, 조회가 끝난 뒤 들어왔다면 다시 조회)
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+        try {
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("reloaded");
+        } catch (Exception e) {
+            assertThat(e.getCause()).isInstanceOf(OutOfMemoryError.class);
+        }
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.productservice;
+
+import com.project.productservice.repository.ProductRepository;
+import com.project.productservice.service.StockJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StockJournalTest {
+
+    private ProductRepository productRepository;
+    private StockJournal stockJournal;
+
+    private final Long productId = 1L;
+
+    @BeforeEach
+    public void setUp() {
+        productRepository = mock(ProductRepository.class);
+        stockJournal = new StockJournal(productRepository, new SyncTaskExecutor(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(stockJournal, "flushSize", 500);
+    }
+
+    @Test
+    public void flushUpdatesNetDeltaOnce() {
+        // given
+        when(productRepository.decreaseStock(eq(productId), anyLong())).thenReturn(1);
+        stockJournal.reduce(productId, 3);
+        stockJournal.reduce(productId, 2);
+        stockJournal.rollback(productId, 1);
+
+        // when
+        stockJournal.flush();
+
+        // then - 상품별 변경량을 합쳐 한 번의 UPDATE로 반영
+        verify(productRepository, times(1)).decreaseStock(productId, 4L);
+        assertThat(stockJournal.getUnflushedDelta(productId)).isZero();
+    }
+
+    @Test
+    public void unflushedDeltaIncludesInFlightDelta() {
+        // given
+        AtomicLong unflushedDuringUpdate = new AtomicLong();
+        when(productRepository.decreaseStock(eq(productId), anyLong())).thenAnswer(invocation -> {
+            unflushedDuringUpdate.set(stockJournal.getUnflushedDelta(productId));
+            return 1;
+        });
+        stockJournal.reduce(productId, 5);
+
+        // when
+        stockJournal.flush();
+
+        // then - UPDATE 커밋 전에도 반영 중인 감소량이 포함됨
+        assertThat(unflushedDuringUpdate.get()).isEqualTo(5L);
+        assertThat(stockJournal.getUnflushedDelta(productId)).isZero();
+    }
+
+    @Test
+    public void failedDeltaIsRestoredForNextFlush() {
+        // given
+        when(productRepository.decreaseStock(eq(productId), anyLong()))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(1);
+        stockJournal.reduce(productId, 5);
+
+        // when
+        stockJournal.flush();
+
+        // then - 반영에 실패한 감소량은 되돌려 놓고, 다음 반영 시 다시 시도
+        assertThat(stockJournal.getUnflushedDelta(productId)).isEqualTo(5L);
+
+        stockJournal.reduce(productId, 1);
+        stockJournal.flush();
+        verify(productRepository).decreaseStock(productId, 6L);
+        assertThat(stockJournal.getUnflushedDelta(productId)).isZero();
+    }
+
+    @Test
+    public void zeroNetDeltaIsNotFlushed() {
+        // given
+        stockJournal.reduce(productId, 2);
+        stockJournal.rollback(productId, 2);
+
+        // when
+        stockJournal.flush();
+
+        // then
+        verify(productRepository, never()).decreaseStock(eq(productId), anyLong());
+    }
+
+    @Test
+    public void flushesImmediatelyWhenFlushSizeIsReached() {
+        // given
+        ReflectionTestUtils.setField(stockJournal, "flushSize", 2);
+        when(productRepository.decreaseStock(eq(productId), anyLong())).thenReturn(1);
+
+        // when
+        stockJournal.reduce(productId, 1);
+        stockJournal.reduce(productId, 1);
+
+        // then - 주기를 기다리지 않고 반영
+        verify(productRepository).decreaseStock(productId, 2L);
+    }
+
+    @Test
+    public void touchedProductIdsAreDrainedOnce() {
+        // given
+        stockJournal.reduce(productId, 1);
+        stockJournal.reduce(2L, 1);
+
+        // when & then
+        assertThat(stockJournal.drainTouchedProductIds()).containsExactlyInAnyOrder(productId, 2L);
+        assertThat(stockJournal.drainTouchedProductIds()).isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.productservice;
+
+import com.project.productservice.repository.ProductRepository;
+import com.project.productservice.service.ShardedStockService;
+import com.project.productservice.service.SoldOutPublisher;
+import com.project.productservice.service.StockJournal;
+import com.project.productservice.service.StockReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StockReconcilerTest {
+
+    private ProductRepository productRepository;
+    private StockJournal stockJournal;
+    private ShardedStockService shardedStockService;
+    private SoldOutPublisher soldOutPublisher;
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisScript<Long> rollbackStockScript;
+    private MeterRegistry meterRegistry;
+    private StockReconciler stockReconciler;
+
+    private final Long productId = 1L;
+    private final String stockKey = "stock_ID: 1";
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        productRepository = mock(ProductRepository.class);
+        stockJournal = mock(StockJournal.class);
+        shardedStockService = mock(ShardedStockService.class);
+        soldOutPublisher = mock(SoldOutPublisher.class);
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        rollbackStockScript = mock(RedisScript.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        stockReconciler = new StockReconciler(productRepository, stockJournal, shardedStockService, soldOutPublisher,
+                redisTemplate, rollbackStockScript, meterRegistry);
+    }
+
+    /* DB 재고 10, 반영되지 않은 감소량 3 -> 기대 재고 7 */
+    private void givenPlainProduct(String redisStock) {
+        when(productRepository.findStocksByProductIdIn(List.of(productId)))
+                .thenReturn(Collections.singletonList(new Object[]{productId, 10, false}));
+        when(stockJournal.getUnflushedDelta(productId)).thenReturn(3L);
+        when(valueOperations.multiGet(List.of(stockKey))).thenReturn(Collections.singletonList(redisStock));
+    }
+
+    private double driftCount() {
+        return meterRegistry.counter("product.stock.reconcile.drift").count();
+    }
+
+    @Test
+    public void consistentStockIsNotHealed() {
+        // given
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.REDIS);
+        givenPlainProduct("7");
+
+        // when
+        stockReconciler.reconcile(List.of(productId));
+        stockReconciler.reconcile(List.of(productId));
+
+        // then
+        assertThat(driftCount()).isZero();
+        verify(stockJournal, never()).adjust(eq(productId), anyLong());
+    }
+
+    @Test
+    public void driftIsHealedOnlyWhenSeenTwice() {
+        // given - Redis 재고가 기대 재고보다 2 많음
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.REDIS);
+        givenPlainProduct("9");
+
+        // when & then - 첫 번째 검사에서는 보정하지 않음 (Redis 감소 & Journal 기록 사이의 일시적인 불일치일 수 있음)
+        stockReconciler.reconcile(List.of(productId));
+        assertThat(driftCount()).isZero();
+        verify(stockJournal, never()).adjust(productId, -2L);
+
+        // when & then - 같은 불일치가 다시 확인되면 DB 재고를 2만큼 증가
+        stockReconciler.reconcile(List.of(productId));
+        assertThat(driftCount()).isEqualTo(1);
+        verify(stockJournal).adjust(productId, -2L);
+    }
+
+    @Test
+    public void changedDriftIsCheckedAgain() {
+        // given
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.REDIS);
+        givenPlainProduct("9");
+        stockReconciler.reconcile(List.of(productId));
+
+        // when - 두 번째 검사에서 불일치 수량이 달라짐
+        when(valueOperations.multiGet(List.of(stockKey))).thenReturn(Collections.singletonList("8"));
+        stockReconciler.reconcile(List.of(productId));
+
+        // then
+        assertThat(driftCount()).isZero();
+        verify(stockJournal, never()).adjust(eq(productId), anyLong());
+    }
+
+    @Test
+    public void noneOnlyRecordsDrift() {
+        // given
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.NONE);
+        givenPlainProduct("9");
+
+        // when
+        stockReconciler.reconcile(List.of(productId));
+        stockReconciler.reconcile(List.of(productId));
+
+        // then
+        assertThat(driftCount()).isEqualTo(1);
+        verify(stockJournal, never()).adjust(eq(productId), anyLong());
+        verify(redisTemplate, never()).execute(rollbackStockScript, List.of(stockKey), "-2");
+    }
+
+    @Test
+    public void dbHealsRedisStock() {
+        // given
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.DB);
+        givenPlainProduct("9");
+        when(redisTemplate.execute(rollbackStockScript, Collections.singletonList(stockKey), "-2")).thenReturn(7L);
+
+        // when
+        stockReconciler.reconcile(List.of(productId));
+        stockReconciler.reconcile(List.of(productId));
+
+        // then - Redis 재고를 2만큼 감소시키고 품절 상태 갱신
+        verify(redisTemplate).execute(rollbackStockScript, Collections.singletonList(stockKey), "-2");
+        verify(soldOutPublisher).refresh(productId);
+    }
+
+    @Test
+    public void dbHealsShardedStock() {
+        // given - Flash Sale 상품, 샤드 합 5 / 기대 재고 7
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.DB);
+        when(productRepository.findStocksByProductIdIn(List.of(productId)))
+                .thenReturn(Collections.singletonList(new Object[]{productId, 10, true}));
+        when(stockJournal.getUnflushedDelta(productId)).thenReturn(3L);
+        when(shardedStockService.getCachedStock(productId)).thenReturn(5L);
+
+        // when
+        stockReconciler.reconcile(List.of(productId));
+        stockReconciler.reconcile(List.of(productId));
+
+        // then
+        verify(shardedStockService).adjustStock(productId, 2L);
+    }
+
+    @Test
+    public void uncachedProductIsSkipped() {
+        // given
+        ReflectionTestUtils.setField(stockReconciler, "sourceOfTruth", StockReconciler.SourceOfTruth.REDIS);
+        givenPlainProduct(null);
+
+        // when
+        stockReconciler.reconcile(List.of(productId));
+        stockReconciler.reconcile(List.of(productId));
+
+        // then
+        assertThat(driftCount()).isZero();
+        assertThat(meterRegistry.counter("product.stock.reconcile.checked").count()).isEqualTo(2);
+    }
+}
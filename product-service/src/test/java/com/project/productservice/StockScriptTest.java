@@ -0,0 +1,104 @@
+package com.project.productservice;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 상품의 재고 처리 Lua Script (reserve_stock_batch.lua, rollback_stock_batch.lua)
+ */
+@SpringBootTest
+public class StockScriptTest {
+
+    private static final long CACHE_MISS = -2L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisScript<List<Long>> reserveStockBatchScript;
+
+    @Autowired
+    private RedisScript<List<Long>> rollbackStockBatchScript;
+
+    private final String firstKey = "stock_ID: script-test-1";
+    private final String secondKey = "stock_ID: script-test-2";
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate.opsForValue().set(firstKey, "10");
+        redisTemplate.opsForValue().set(secondKey, "1");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        redisTemplate.delete(List.of(firstKey, secondKey));
+    }
+
+    @Test
+    public void reserveBatchReducesAllStocks() {
+        // when
+        List<Long> result = redisTemplate.execute(reserveStockBatchScript, List.of(firstKey, secondKey), "3", "1");
+
+        // then
+        assertThat(result).containsExactly(1L, 7L, 0L);
+        assertThat(redisTemplate.opsForValue().get(firstKey)).isEqualTo("7");
+        assertThat(redisTemplate.opsForValue().get(secondKey)).isEqualTo("0");
+    }
+
+    @Test
+    public void reserveBatchChangesNothingWhenAnyStockIsInsufficient() {
+        // when - 두 번째 상품의 재고 부족
+        List<Long> result = redisTemplate.execute(reserveStockBatchScript, List.of(firstKey, secondKey), "3", "2");
+
+        // then - 부족한 수량은 음수로 반환, 첫 번째 상품의 재고도 감소하지 않음
+        assertThat(result).containsExactly(0L, 7L, -1L);
+        assertThat(redisTemplate.opsForValue().get(firstKey)).isEqualTo("10");
+        assertThat(redisTemplate.opsForValue().get(secondKey)).isEqualTo("1");
+    }
+
+    @Test
+    public void reserveBatchReturnsCacheMissIndexes() {
+        // given
+        redisTemplate.delete(secondKey);
+
+        // when
+        List<Long> result = redisTemplate.execute(reserveStockBatchScript, List.of(firstKey, secondKey), "3", "1");
+
+        // then - 캐시에 없는 key의 인덱스(1부터)를 반환하고 재고는 변경하지 않음
+        assertThat(result).containsExactly(CACHE_MISS, 2L);
+        assertThat(redisTemplate.opsForValue().get(firstKey)).isEqualTo("10");
+        assertThat(redisTemplate.hasKey(secondKey)).isFalse();
+    }
+
+    @Test
+    public void rollbackBatchIncreasesAllStocks() {
+        // when
+        List<Long> result = redisTemplate.execute(rollbackStockBatchScript, List.of(firstKey, secondKey), "3", "1");
+
+        // then
+        assertThat(result).containsExactly(1L, 13L, 2L);
+    }
+
+    @Test
+    public void rollbackBatchChangesNothingWhenAnyKeyIsMissing() {
+        // given
+        redisTemplate.delete(firstKey);
+
+        // when
+        List<Long> result = redisTemplate.execute(rollbackStockBatchScript, List.of(firstKey, secondKey), "3", "1");
+
+        // then - 롤백하지 않은 상품의 재고를 캐시 없이 새로 만들지 않음
+        assertThat(result).containsExactly(CACHE_MISS, 1L);
+        assertThat(redisTemplate.hasKey(firstKey)).isFalse();
+        assertThat(redisTemplate.opsForValue().get(secondKey)).isEqualTo("1");
+    }
+}